@@ -4,8 +4,10 @@ import minesweeper.gui.GameFrame;
 import minesweeper.gui.MainInterface;
 import java.awt.EventQueue;
 import javax.swing.JPanel;
-import minesweeper.gui.dialogues.GameOverDialog;
+import minesweeper.engine.BoardSpec;
+import minesweeper.gui.dialogues.GameOverOverlay;
 import minesweeper.gui.grid.Difficulty;
+import minesweeper.util.StartupMetrics;
 
 /**
  * The {@code GameManager} class serves as the central control point for
@@ -17,8 +19,10 @@ import minesweeper.gui.grid.Difficulty;
  * <ul>
  * <li>Starting the game and setting up the main interface.</li>
  * <li>Restarting the game when requested.</li>
- * <li>Displaying the game over dialog with the appropriate message based on the
- * player's performance.</li>
+ * <li>Starting a new game on a board of any size.</li>
+ * <li>Starting an endless game.</li>
+ * <li>Displaying the game over overlay with the appropriate message based on
+ * the player's performance.</li>
  * <li>Ending the game and disposing of resources.</li>
  * </ul>
  * <p>
@@ -27,8 +31,9 @@ import minesweeper.gui.grid.Difficulty;
  * </p>
  *
  * @see minesweeper.gui.MainInterface
- * @see minesweeper.gui.dialogues.GameOverDialog
+ * @see minesweeper.gui.dialogues.GameOverOverlay
  * @see minesweeper.gui.grid.Difficulty
+ * @see minesweeper.engine.BoardSpec
  *
  * @since 1.0
  * @version 1.0
@@ -42,14 +47,45 @@ public class GameManager {
      * application and is responsible for initialising the game's graphical user
      * interface. It runs the game in the Event Dispatch Thread to ensure thread
      * safety in Swing applications.
+     * <p>
+     * An optional board specification of the form {@code ROWSxCOLS:MINES}
+     * (see {@link BoardSpec#parse(String)}) starts the game on a custom board.
+     * </p>
+     * <p>
+     * Setting the {@value StartupMetrics#TRACE_PROPERTY} system property to
+     * {@code true} reports the time taken by each stage of startup, up to the
+     * first paint of the frame. Setting {@value #TRAINING_RUN_PROPERTY} to
+     * {@code true} exits as soon as the first frame has been painted, which is
+     * used to record a class-data sharing archive.
+     * </p>
      *
-     * @param args command-line arguments (not used)
+     * @param args command-line arguments; an optional board specification
      */
     public static void main(String[] args) {
-        EventQueue.invokeLater(() -> GameFrame.getGameFrame().setVisible(true));
+        StartupMetrics.mark("main");
+        BoardSpec spec = args.length > 0 ? BoardSpec.parse(args[0]) : null;
+        EventQueue.invokeLater(() -> {
+            if (spec != null) {
+                newGame(spec);
+            }
+            GameFrame.getGameFrame().setVisible(true);
+            StartupMetrics.mark("frame visible");
+        });
     }
     
     // ------------------------------ Fields -------------------------------- //
+    /**
+     * The system property that makes the game exit once its first frame has
+     * been painted. Used by the {@code appcds} Maven profile to record the
+     * classes loaded during startup.
+     */
+    public static final String TRAINING_RUN_PROPERTY = "minesweeper.training";
+
+    /**
+     * The time at which the static initialisation of this class started.
+     */
+    private static final long INIT_START = System.nanoTime();
+
     /**
      * The main user interface of the game, initialised with the intermediate
      * difficulty level and a cell size of 25. This interface handles the main
@@ -57,6 +93,11 @@ public class GameManager {
      */
     private static final MainInterface mainInterface = new MainInterface(Difficulty.INTERMEDIATE, 25);
 
+    static {
+        StartupMetrics.record("GameManager static initialisation", System.nanoTime() - INIT_START);
+        StartupMetrics.mark("main interface created");
+    }
+
     // ------------------------------ Getters ------------------------------- //
     /**
      * Returns the main interface of the game. This method provides global
@@ -69,6 +110,15 @@ public class GameManager {
         return mainInterface;
     }
 
+    /**
+     * Returns the specification of the board currently being played.
+     *
+     * @return the current {@link BoardSpec}
+     */
+    public static BoardSpec getBoardSpec() {
+        return mainInterface.getBoardSpec();
+    }
+
     // ---------------------------- API Methods ----------------------------- //
     /**
      * Restarts the game by reinitialising the main interface. This method
@@ -76,23 +126,56 @@ public class GameManager {
      * settings as the previous one.
      */
     public static void restart() {
+        GameFrame.getGameFrame().getGameOverOverlay().dismiss();
         mainInterface.restart();
     }
 
     /**
-     * Displays the game over dialog with a message indicating whether the
+     * Starts a new game on a board described by the given specification. The
+     * main window is resized to fit the new board.
+     *
+     * @param spec the {@link BoardSpec} of the new game
+     */
+    public static void newGame(BoardSpec spec) {
+        GameFrame.getGameFrame().getGameOverOverlay().dismiss();
+        mainInterface.setBoardSpec(spec);
+        GameFrame.getGameFrame().pack();
+    }
+
+    /**
+     * Starts an endless game, at the mine density of the current board. The
+     * main window is resized to fit the endless view.
+     */
+    public static void newEndlessGame() {
+        GameFrame.getGameFrame().getGameOverOverlay().dismiss();
+        mainInterface.startEndless();
+        GameFrame.getGameFrame().pack();
+    }
+
+    /**
+     * Displays the game over overlay with a message indicating whether the
      * player has won or lost. This method is called when the game reaches an
-     * end condition, either by winning or losing.
+     * end condition, either by winning or losing. The overlay is not modal:
+     * this method returns immediately, so the caller's event handler completes
+     * and the board can be reset straight away.
      *
      * @param hasWon {@code true} if the player has won the game, {@code false}
      * if the player has lost
      */
     public static void showGameOver(boolean hasWon) {
-        GameOverDialog.showMessageDialog(
-                GameFrame.getGameFrame(),
-                "Game Over", // Title for the dialog
-                hasWon ? "You Win!" : "You Lose!" // Message based on the game outcome
-        );
+        GameOverOverlay overlay = GameFrame.getGameFrame().getGameOverOverlay();
+        overlay.showMessage(hasWon ? "You Win!" : "You Lose!");
+    }
+
+    /**
+     * Called by the {@link GameFrame} once it has been painted for the first
+     * time. Reports the time to first frame and, on a training run, exits.
+     */
+    public static void firstFramePainted() {
+        StartupMetrics.firstFrame();
+        if (Boolean.getBoolean(TRAINING_RUN_PROPERTY)) {
+            EventQueue.invokeLater(GameManager::endGame);
+        }
     }
 
     /**
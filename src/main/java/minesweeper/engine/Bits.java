@@ -0,0 +1,120 @@
+package minesweeper.engine;
+
+/**
+ * The {@code Bits} class provides static helpers for treating a
+ * {@code long[]} as a fixed-size bitset addressed by linear cell index. Each
+ * {@code long} word holds the flags of 64 consecutive cells, so whole-board
+ * operations such as counting or scanning can work a word at a time.
+ * <p>
+ * Unlike {@link java.util.BitSet}, the backing array is exposed directly so
+ * that the {@link Board} can size, share and clear it without extra
+ * indirection.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * long[] mines = Bits.create(rows * cols);
+ * Bits.set(mines, index);
+ * for (int i = Bits.nextSetBit(mines, 0); i &gt;= 0; i = Bits.nextSetBit(mines, i + 1)) { ... }
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.Board
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class Bits {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Bits() {
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Creates a bitset large enough to hold the given number of bits, all
+     * initially cleared.
+     *
+     * @param size the number of bits
+     * @return a new, empty bitset
+     */
+    public static long[] create(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Returns the value of the bit at the given index.
+     *
+     * @param bits the bitset
+     * @param index the index of the bit
+     * @return {@code true} if the bit is set, {@code false} otherwise
+     */
+    public static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the bit at the given index.
+     *
+     * @param bits the bitset
+     * @param index the index of the bit
+     */
+    public static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Clears the bit at the given index.
+     *
+     * @param bits the bitset
+     * @param index the index of the bit
+     */
+    public static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Returns the number of set bits in the bitset.
+     *
+     * @param bits the bitset
+     * @return the number of set bits
+     */
+    public static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first set bit at or after the given index.
+     *
+     * @param bits the bitset
+     * @param from the index to start searching from, inclusive
+     * @return the index of the next set bit, or {@code -1} if there is none
+     */
+    public static int nextSetBit(long[] bits, int from) {
+        int w = from >>> 6;
+        if (w >= bits.length) {
+            return -1;
+        }
+
+        long word = bits[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+
+            if (++w == bits.length) {
+                return -1;
+            }
+            word = bits[w];
+        }
+    }
+
+}
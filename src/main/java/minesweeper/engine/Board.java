@@ -0,0 +1,976 @@
+package minesweeper.engine;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The {@code Board} class holds the complete rule set of a Minesweeper game
+ * without any dependency on Swing. It stores mine positions, revealed and
+ * flagged cells, and the counters needed to decide when a game has been won or
+ * lost.
+ * <p>
+ * Cell state is bit-packed: mines, revealed and flagged cells are each kept in
+ * a {@code long[]} bitset (see {@link Bits}) and the neighbouring mine counts
+ * in a {@code byte[]}, so even a 1000x1000 board needs little more than a
+ * megabyte and whole-board scans proceed 64 cells at a time.
+ * </p>
+ * <p>
+ * All operations address cells either by row and column or by linear index
+ * ({@code row * cols + col}), so a {@code Board} can be driven by a user
+ * interface, a bot or a batch simulation alike. The
+ * first reveal, flag or chord places the mines, guaranteeing that the first
+ * cell the player touches is never a mine.
+ * </p>
+ * <p>
+ * Key responsibilities of the {@code Board} include:
+ * <ul>
+ * <li>Placing mines lazily on the first move.</li>
+ * <li>Revealing cells, including the flood fill of empty regions.</li>
+ * <li>Toggling flags while keeping the flag count within the mine count.</li>
+ * <li>Chording, i.e. revealing the neighbours of a satisfied number.</li>
+ * <li>Revealing or flagging many cells in one move, for drag gestures.</li>
+ * <li>Tracking the {@link GameStatus} of the game.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Every move that changes the board is also reported to the registered
+ * {@link BoardListener}s as a single {@link BoardDelta}, so views and
+ * recorders can follow the game without polling or per-cell callbacks.
+ * </p>
+ * <p>
+ * A finished or abandoned game can be started again on the same object with
+ * {@link #reset()}, which clears the state in place and reseeds the mines
+ * without allocating new arrays.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * Board board = new Board(16, 16, 40);
+ * int[] changed = board.reveal(8, 8);
+ * if (board.getStatus() == GameStatus.LOST) { ... }
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.GameStatus
+ * @see minesweeper.engine.BoardListener
+ * @see minesweeper.engine.Bits
+ * @see minesweeper.engine.Neighbourhood
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public class Board {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The initial capacity of the flood fill work queue. The queue grows on
+     * demand up to the number of cells on the board.
+     */
+    private static final int INITIAL_QUEUE_CAPACITY = 256;
+
+    /**
+     * The number of cells from which a board opens empty regions in parallel
+     * with {@link ParallelReveal}. Smaller boards use the sequential flood
+     * fill, whose cost is lower than the fork/join overhead.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /**
+     * The value returned by moves that change nothing.
+     */
+    private static final int[] NO_CHANGES = new int[0];
+
+    /**
+     * The number of rows on the board.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns on the board.
+     */
+    private final int cols;
+
+    /**
+     * The total number of mines placed on the board.
+     */
+    private final int mineCount;
+
+    /**
+     * The bitset of cells, by linear index, that contain a mine.
+     */
+    private final long[] mines;
+
+    /**
+     * The bitset of cells, by linear index, that have been revealed.
+     */
+    private final long[] revealed;
+
+    /**
+     * The bitset of cells, by linear index, that have been flagged.
+     */
+    private final long[] flagged;
+
+    /**
+     * The number of neighbouring mines of each cell, by linear index. The
+     * table is filled once when the mines are placed.
+     */
+    private final byte[] adjacent;
+
+    /**
+     * The linear indices of the mines in ascending order, filled when the
+     * mines are placed.
+     */
+    private final int[] mineIndices;
+
+    /**
+     * The current number of flagged cells.
+     */
+    private int flagCount;
+
+    /**
+     * The current number of revealed cells that do not contain a mine.
+     */
+    private int revealedCount;
+
+    /**
+     * A flag indicating whether the mines have been placed. Mines are placed on
+     * the first move so that the first cell touched is always safe.
+     */
+    private boolean minesPlaced;
+
+    /**
+     * The current status of the game.
+     */
+    private GameStatus status = GameStatus.PLAYING;
+
+    /**
+     * The seed from which this board's mines are generated. It changes when
+     * the board is {@linkplain #reset(long) reset}.
+     */
+    private long seed;
+
+    /**
+     * The linear index of the first cell touched, or {@code -1} before the
+     * first move.
+     */
+    private int firstClick = -1;
+
+    /**
+     * The neighbour offset table for this board's dimensions.
+     */
+    private final Neighbourhood hood;
+
+    /**
+     * The work queue used by the flood fill, reused between moves. After a
+     * move, the first {@link #changedCount} entries hold the indices of every
+     * cell revealed by that move, in the order they were revealed.
+     */
+    private int[] queue;
+
+    /**
+     * The number of entries of {@link #queue} filled by the current move.
+     */
+    private int changedCount;
+
+    /**
+     * The parallel flood fill used for boards of at least
+     * {@link #PARALLEL_THRESHOLD} cells on multi-core machines, or
+     * {@code null} when the sequential fill is used.
+     */
+    private final ParallelReveal parallel;
+
+    /**
+     * The listeners told about every move that changes the board. The list is
+     * copied on write, so a listener may remove itself while being called.
+     */
+    private final List<BoardListener> listeners = new CopyOnWriteArrayList<>();
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a new, empty {@code Board} with the given dimensions and mine
+     * count and a random seed. Mines are not placed until the first move.
+     *
+     * @param rows the number of rows on the board
+     * @param cols the number of columns on the board
+     * @param mineCount the number of mines to place
+     * @throws IllegalArgumentException if the dimensions are not positive, the
+     * board has more than {@link BoardSpec#MAX_CELLS} cells or the mine count
+     * does not leave at least one safe cell
+     */
+    public Board(int rows, int cols, int mineCount) {
+        this(rows, cols, mineCount, current().nextLong());
+    }
+
+    /**
+     * Constructs a new, empty {@code Board} with the given dimensions, mine
+     * count and seed. Mines are not placed until the first move; the layout is
+     * then fully determined by the seed, the board size, the mine count and
+     * the index of the first cell touched.
+     *
+     * @param rows the number of rows on the board
+     * @param cols the number of columns on the board
+     * @param mineCount the number of mines to place
+     * @param seed the seed from which the mines are generated
+     * @throws IllegalArgumentException if the dimensions are not positive, the
+     * board has more than {@link BoardSpec#MAX_CELLS} cells or the mine count
+     * does not leave at least one safe cell
+     * @see BoardId
+     */
+    public Board(int rows, int cols, int mineCount, long seed) {
+        this(rows, cols, mineCount, seed,
+                (long) rows * cols >= PARALLEL_THRESHOLD && Runtime.getRuntime().availableProcessors() > 1);
+    }
+
+    /**
+     * Constructs a new, empty {@code Board} as
+     * {@link #Board(int, int, int, long)} does, choosing explicitly whether
+     * empty regions are opened with {@link ParallelReveal} rather than deciding
+     * from the board size and the number of processors. Used to check that
+     * both fills agree.
+     *
+     * @param rows the number of rows on the board
+     * @param cols the number of columns on the board
+     * @param mineCount the number of mines to place
+     * @param seed the seed from which the mines are generated
+     * @param parallelReveal {@code true} to open empty regions in parallel
+     * @throws IllegalArgumentException if the dimensions are not positive, the
+     * board has more than {@link BoardSpec#MAX_CELLS} cells or the mine count
+     * does not leave at least one safe cell
+     */
+    Board(int rows, int cols, int mineCount, long seed, boolean parallelReveal) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Invalid board size: " + rows + "x" + cols);
+        }
+
+        if ((long) rows * cols > BoardSpec.MAX_CELLS) {
+            throw new IllegalArgumentException("Board must have at most " + BoardSpec.MAX_CELLS
+                    + " cells: " + rows + "x" + cols);
+        }
+
+        MinePlacer.validate(rows * cols, mineCount, 1); // the first cell is always safe
+
+        this.rows = rows;
+        this.cols = cols;
+        this.mineCount = mineCount;
+        this.seed = seed;
+
+        int size = rows * cols;
+        this.mines = Bits.create(size);
+        this.revealed = Bits.create(size);
+        this.flagged = Bits.create(size);
+        this.adjacent = new byte[size];
+        this.mineIndices = new int[mineCount];
+        this.hood = new Neighbourhood(rows, cols);
+        this.queue = new int[Math.min(size, INITIAL_QUEUE_CAPACITY)];
+        this.parallel = parallelReveal
+                ? new ParallelReveal(rows, cols, revealed, flagged, adjacent, hood)
+                : null;
+    }
+
+    /**
+     * Recreates the board identified by the given ID, with its mines already
+     * placed as they were after the original first move.
+     *
+     * @param id the {@link BoardId} of the board
+     * @return a fresh board with the identified mine layout
+     * @throws IllegalArgumentException if the ID does not describe a valid
+     * board, including a first click outside the board
+     */
+    public static Board fromId(BoardId id) {
+        Board board = new Board(id.getRows(), id.getCols(), id.getMines(), id.getSeed());
+        int firstClick = id.getFirstClick();
+        if (firstClick < 0 || firstClick >= board.rows * board.cols) { // IDs may be pasted in by hand
+            throw new IllegalArgumentException("First click " + firstClick + " is outside the "
+                    + board.rows + "x" + board.cols + " board");
+        }
+
+        board.ensureMines(firstClick);
+        return board;
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the number of rows on the board.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns on the board.
+     *
+     * @return the number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the total number of mines on the board.
+     *
+     * @return the number of mines
+     */
+    public int getMineCount() {
+        return mineCount;
+    }
+
+    /**
+     * Returns the current number of flagged cells.
+     *
+     * @return the number of flagged cells
+     */
+    public int getFlagCount() {
+        return flagCount;
+    }
+
+    /**
+     * Returns the current number of revealed cells that do not contain a mine.
+     *
+     * @return the number of revealed safe cells
+     */
+    public int getRevealedCount() {
+        return revealedCount;
+    }
+
+    /**
+     * Returns the current status of the game.
+     *
+     * @return the {@link GameStatus} of the game
+     */
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the seed from which this board's mines are generated.
+     *
+     * @return the generation seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the ID from which this board's mine layout can be regenerated.
+     * The ID is only known once the first move has placed the mines.
+     *
+     * @return the {@link BoardId} of this board, or {@code null} before the
+     * first move
+     */
+    public BoardId getBoardId() {
+        return minesPlaced ? new BoardId(rows, cols, mineCount, firstClick, seed) : null;
+    }
+
+    /**
+     * Checks whether the mines have been placed yet.
+     *
+     * @return {@code true} if the first move has been made, {@code false}
+     * otherwise
+     */
+    public boolean isMinesPlaced() {
+        return minesPlaced;
+    }
+
+    /**
+     * Returns the linear index of the cell at the given position. Cells are
+     * numbered row by row, so the index is {@code row * cols + col}.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the linear index of the cell
+     * @throws IndexOutOfBoundsException if the position is outside the board
+     */
+    public int indexOf(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Cell out of bounds: (" + row + ", " + col + ")");
+        }
+        return row * cols + col;
+    }
+
+    /**
+     * Returns the neighbour table for this board, which can be used to walk
+     * the neighbours of a cell without allocating.
+     *
+     * @return the {@link Neighbourhood} of this board
+     */
+    public Neighbourhood getNeighbourhood() {
+        return hood;
+    }
+
+    /**
+     * Checks whether the cell at the given position contains a mine.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell contains a mine, {@code false} otherwise
+     */
+    public boolean hasMine(int row, int col) {
+        return hasMine(indexOf(row, col));
+    }
+
+    /**
+     * Checks whether the cell at the given linear index contains a mine.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell contains a mine, {@code false} otherwise
+     */
+    public boolean hasMine(int index) {
+        return Bits.get(mines, checkIndex(index));
+    }
+
+    /**
+     * Checks whether the cell at the given position has been revealed.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell is revealed, {@code false} otherwise
+     */
+    public boolean isRevealed(int row, int col) {
+        return isRevealed(indexOf(row, col));
+    }
+
+    /**
+     * Checks whether the cell at the given linear index has been revealed.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is revealed, {@code false} otherwise
+     */
+    public boolean isRevealed(int index) {
+        return Bits.get(revealed, checkIndex(index));
+    }
+
+    /**
+     * Checks whether the cell at the given position is flagged.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell is flagged, {@code false} otherwise
+     */
+    public boolean isFlagged(int row, int col) {
+        return isFlagged(indexOf(row, col));
+    }
+
+    /**
+     * Checks whether the cell at the given linear index is flagged.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is flagged, {@code false} otherwise
+     */
+    public boolean isFlagged(int index) {
+        return Bits.get(flagged, checkIndex(index));
+    }
+
+    /**
+     * Returns the number of mines surrounding the cell at the given position.
+     * The count is read from the table built when the mines were placed.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the number of neighbouring mines, from 0 to 8
+     */
+    public int getAdjacentMines(int row, int col) {
+        return adjacent[indexOf(row, col)];
+    }
+
+    /**
+     * Returns the number of mines surrounding the cell at the given linear
+     * index.
+     *
+     * @param index the linear index of the cell
+     * @return the number of neighbouring mines, from 0 to 8
+     */
+    public int getAdjacentMines(int index) {
+        return adjacent[checkIndex(index)];
+    }
+
+    /**
+     * Returns the linear index of the first mine at or after the given index.
+     * The search runs over the mine bitset a word at a time, so iterating all
+     * mines costs far less than scanning every cell.
+     *
+     * @param from the linear index to start searching from, inclusive
+     * @return the linear index of the next mine, or {@code -1} if there is none
+     */
+    public int nextMine(int from) {
+        return Bits.nextSetBit(mines, from);
+    }
+
+    /**
+     * Returns the linear indices of every mine in ascending order. The list
+     * is built once when the mines are placed, so revealing every mine after
+     * a loss costs time proportional to the number of mines only.
+     *
+     * @return a copy of the mine indices, empty before the first move
+     */
+    public int[] getMineIndices() {
+        return minesPlaced ? mineIndices.clone() : NO_CHANGES;
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Registers a listener to be told about every move that changes the
+     * board.
+     *
+     * @param listener the {@link BoardListener} to register
+     * @throws NullPointerException if the listener is {@code null}
+     */
+    public void addBoardListener(BoardListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    /**
+     * Removes a listener registered with
+     * {@link #addBoardListener(BoardListener)}. Does nothing if it was not
+     * registered.
+     *
+     * @param listener the {@link BoardListener} to remove
+     */
+    public void removeBoardListener(BoardListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Reveals the cell at the given position.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the linear indices of the cells revealed by this move
+     * @see #reveal(int)
+     */
+    public int[] reveal(int row, int col) {
+        return reveal(indexOf(row, col));
+    }
+
+    /**
+     * Reveals the cell at the given linear index. If the cell has no
+     * neighbouring mines, the surrounding empty region is revealed as well.
+     * Revealing a flagged cell removes its flag first. Revealing a mine loses
+     * the game and revealing the last safe cell wins it.
+     * <p>
+     * This method does nothing once the game is over or if the cell has
+     * already been revealed. The outcome of the move can be read from
+     * {@link #getStatus()}.
+     * </p>
+     *
+     * @param index the linear index of the cell
+     * @return the linear indices of the cells revealed by this move, so that a
+     * view can repaint them in one batch
+     */
+    public int[] reveal(int index) {
+        checkIndex(index);
+        if (status.isOver() || Bits.get(revealed, index)) {
+            return NO_CHANGES;
+        }
+
+        ensureMines(index);
+        if (Bits.get(flagged, index)) {
+            Bits.clear(flagged, index);
+            flagCount--;
+        }
+
+        changedCount = 0;
+        if (Bits.get(mines, index)) {
+            push(index);
+            status = GameStatus.LOST;
+            return publish();
+        }
+
+        floodFill(index);
+        checkWon();
+        return publish();
+    }
+
+    /**
+     * Toggles the flag on the cell at the given position.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the flag state of the cell changed,
+     * {@code false} otherwise
+     * @see #toggleFlag(int)
+     */
+    public boolean toggleFlag(int row, int col) {
+        return toggleFlag(indexOf(row, col));
+    }
+
+    /**
+     * Toggles the flag on the cell at the given linear index. A cell can only
+     * be flagged while it is hidden and while fewer flags than mines have been
+     * placed.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the flag state of the cell changed,
+     * {@code false} otherwise
+     */
+    public boolean toggleFlag(int index) {
+        checkIndex(index);
+        if (status.isOver() || Bits.get(revealed, index)) {
+            return false;
+        }
+
+        ensureMines(index);
+        if (Bits.get(flagged, index)) { // Cell is being unflagged
+            Bits.clear(flagged, index);
+            flagCount--;
+            publishFlags(new int[] {index});
+            return true;
+        }
+
+        if (flagCount + 1 > mineCount) { // no flags left
+            return false;
+        }
+
+        Bits.set(flagged, index);
+        flagCount++;
+        publishFlags(new int[] {index});
+        return true;
+    }
+
+    /**
+     * Chords on the cell at the given position.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the linear indices of the cells revealed by this move
+     * @see #chord(int)
+     */
+    public int[] chord(int row, int col) {
+        return chord(indexOf(row, col));
+    }
+
+    /**
+     * Chords on the cell at the given linear index. If the cell is a revealed
+     * number and exactly that many of its neighbours are flagged, every other
+     * hidden neighbour is revealed. A wrongly placed flag therefore loses the
+     * game, and the move stops at the first mine revealed.
+     *
+     * @param index the linear index of the cell
+     * @return the linear indices of the cells revealed by this move
+     */
+    public int[] chord(int index) {
+        checkIndex(index);
+        if (status.isOver() || !Bits.get(revealed, index) || Bits.get(mines, index)) {
+            return NO_CHANGES;
+        }
+
+        int mask = hood.maskOf(index);
+        int flags = 0;
+        for (int m = mask; m != 0; m &= m - 1) {
+            if (Bits.get(flagged, hood.neighbour(index, Integer.numberOfTrailingZeros(m)))) {
+                flags++;
+            }
+        }
+
+        if (adjacent[index] == 0 || flags != adjacent[index]) {
+            return NO_CHANGES;
+        }
+
+        changedCount = 0;
+        for (int m = mask; m != 0; m &= m - 1) {
+            int n = hood.neighbour(index, Integer.numberOfTrailingZeros(m));
+            if (Bits.get(revealed, n) || Bits.get(flagged, n)) {
+                continue;
+            }
+
+            if (Bits.get(mines, n)) {
+                push(n);
+                status = GameStatus.LOST;
+                break;
+            }
+            floodFill(n);
+        }
+
+        checkWon();
+        return publish();
+    }
+
+    /**
+     * Reveals every given cell in a single move, as if each had been revealed
+     * in turn, except that flagged cells are skipped rather than unflagged.
+     * Empty regions are opened as usual. The move stops at the first mine
+     * revealed, losing the game, and the listeners receive one
+     * {@link BoardDelta} for the whole move.
+     *
+     * @param indices the linear indices of the cells, in the order to reveal
+     * them
+     * @return the linear indices of the cells revealed by this move
+     * @throws IndexOutOfBoundsException if an index is outside the board
+     */
+    public int[] revealAll(int[] indices) {
+        for (int index : indices) {
+            checkIndex(index);
+        }
+        if (status.isOver() || indices.length == 0) {
+            return NO_CHANGES;
+        }
+
+        ensureMines(indices[0]);
+        changedCount = 0;
+        for (int index : indices) {
+            if (Bits.get(revealed, index) || Bits.get(flagged, index)) {
+                continue;
+            }
+
+            if (Bits.get(mines, index)) {
+                push(index);
+                status = GameStatus.LOST;
+                break;
+            }
+            floodFill(index);
+        }
+
+        checkWon();
+        return publish();
+    }
+
+    /**
+     * Flags every given cell that is hidden and not yet flagged, in a single
+     * move. Cells are flagged in order until every flag has been placed; flags
+     * already present are kept rather than toggled. The listeners receive one
+     * {@link BoardDelta} for the whole move.
+     *
+     * @param indices the linear indices of the cells
+     * @return the linear indices of the cells flagged by this move
+     * @throws IndexOutOfBoundsException if an index is outside the board
+     */
+    public int[] flagAll(int[] indices) {
+        for (int index : indices) {
+            checkIndex(index);
+        }
+        if (status.isOver() || indices.length == 0) {
+            return NO_CHANGES;
+        }
+
+        ensureMines(indices[0]);
+        int[] changed = new int[Math.min(indices.length, mineCount - flagCount)];
+        int count = 0;
+        for (int index : indices) {
+            if (count == changed.length) {
+                break; // no flags left
+            }
+
+            if (!Bits.get(revealed, index) && !Bits.get(flagged, index)) {
+                Bits.set(flagged, index);
+                flagCount++;
+                changed[count++] = index;
+            }
+        }
+
+        if (count == 0) {
+            return NO_CHANGES;
+        }
+
+        changed = Arrays.copyOf(changed, count);
+        publishFlags(changed);
+        return changed;
+    }
+
+    /**
+     * Starts a new game on this board with a new random seed. See
+     * {@link #reset(long)}.
+     */
+    public void reset() {
+        reset(current().nextLong());
+    }
+
+    /**
+     * Starts a new game on this board with the given seed. Every cell is
+     * cleared, the counters and status are reset and the mines are removed,
+     * to be placed again from the new seed on the next first move. The
+     * board's arrays are reused, so resetting allocates nothing.
+     *
+     * @param seed the seed from which the new mines are generated
+     */
+    public void reset(long seed) {
+        this.seed = seed;
+        Arrays.fill(mines, 0L);
+        Arrays.fill(revealed, 0L);
+        Arrays.fill(flagged, 0L);
+        Arrays.fill(adjacent, (byte) 0);
+
+        flagCount = 0;
+        revealedCount = 0;
+        changedCount = 0;
+        firstClick = -1;
+        minesPlaced = false;
+        status = GameStatus.PLAYING;
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Reveals the given safe cell and, if it has no neighbouring mines, the
+     * empty region around it. The fill is iterative: cells are appended to the
+     * reusable work queue as they are revealed, and the revealed bitset doubles
+     * as the visited set, so no cell is queued twice and the fill neither
+     * recurses nor allocates once the queue has grown to fit. Flagged cells
+     * stop the fill.
+     * <p>
+     * On boards of at least {@link #PARALLEL_THRESHOLD} cells, empty regions
+     * are opened by {@link ParallelReveal} instead, which reveals the same
+     * cells.
+     * </p>
+     *
+     * @param start the linear index of the cell
+     */
+    private void floodFill(int start) {
+        if (Bits.get(revealed, start) || Bits.get(flagged, start)) {
+            return;
+        }
+
+        if (parallel != null && adjacent[start] == 0) {
+            parallel.fill(start, index -> {
+                push(index);
+                revealedCount++;
+            });
+            return;
+        }
+
+        int head = changedCount;
+        push(start);
+        while (head < changedCount) {
+            int index = queue[head++];
+            revealedCount++;
+
+            if (adjacent[index] != 0) {
+                continue;
+            }
+
+            for (int m = hood.maskOf(index); m != 0; m &= m - 1) {
+                int n = hood.neighbour(index, Integer.numberOfTrailingZeros(m));
+                if (!Bits.get(revealed, n) && !Bits.get(flagged, n)) {
+                    push(n);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the given cell as revealed and appends it to the work queue,
+     * growing the queue if needed.
+     *
+     * @param index the linear index of the cell
+     */
+    private void push(int index) {
+        Bits.set(revealed, index);
+        if (changedCount == queue.length) {
+            queue = Arrays.copyOf(queue, (int) Math.min((long) queue.length * 2, rows * cols));
+        }
+        queue[changedCount++] = index;
+    }
+
+    /**
+     * Returns a copy of the indices revealed by the current move.
+     *
+     * @return the changed cell indices
+     */
+    private int[] changes() {
+        return changedCount == 0 ? NO_CHANGES : Arrays.copyOf(queue, changedCount);
+    }
+
+    /**
+     * Reports the cells revealed by the current move to the listeners, if
+     * there are any and the move changed something, and returns them. The
+     * delta and the caller share one array, so a cascade over millions of
+     * cells is copied out of the queue only once.
+     *
+     * @return the changed cell indices
+     * @see #changes()
+     */
+    private int[] publish() {
+        int[] changes = changes();
+        if (changedCount != 0 && !listeners.isEmpty()) {
+            fire(new BoardDelta(changes, null, flagCount, revealedCount, status));
+        }
+        return changes;
+    }
+
+    /**
+     * Reports toggled flags to the listeners, if there are any.
+     *
+     * @param changed the linear indices of the cells, shared with the delta
+     */
+    private void publishFlags(int[] changed) {
+        if (!listeners.isEmpty()) {
+            fire(new BoardDelta(null, changed, flagCount, revealedCount, status));
+        }
+    }
+
+    /**
+     * Delivers a delta to every listener, in the order they were registered.
+     *
+     * @param delta the changes made by the current move
+     */
+    private void fire(BoardDelta delta) {
+        for (BoardListener listener : listeners) {
+            listener.boardChanged(delta);
+        }
+    }
+
+    /**
+     * Places the mines on the first move with {@link MinePlacer}, making sure
+     * the given cell does not contain a mine. The random stream is derived
+     * from the board's {@link BoardId}, so the layout is reproducible.
+     *
+     * @param safeIndex the index of the cell that must not contain a mine
+     */
+    private void ensureMines(int safeIndex) {
+        if (minesPlaced) {
+            return;
+        }
+
+        firstClick = safeIndex;
+        BoardId id = new BoardId(rows, cols, mineCount, safeIndex, seed);
+        MinePlacer.place(mines, rows * cols, mineCount, new int[] {safeIndex}, id.newRandom());
+        countAdjacentMines();
+        minesPlaced = true;
+    }
+
+    /**
+     * Fills the adjacency table and the mine index list in a single pass over
+     * the mine bitset. Each mine increments the count of its neighbours, so
+     * the work done is proportional to the number of mines rather than to the
+     * number of reveals made during the game.
+     */
+    private void countAdjacentMines() {
+        int k = 0;
+        for (int i = Bits.nextSetBit(mines, 0); i >= 0; i = Bits.nextSetBit(mines, i + 1)) {
+            mineIndices[k++] = i;
+            for (int m = hood.maskOf(i); m != 0; m &= m - 1) {
+                adjacent[hood.neighbour(i, Integer.numberOfTrailingZeros(m))]++;
+            }
+        }
+    }
+
+    /**
+     * Marks the game as won once every safe cell has been revealed and no mine
+     * has been hit.
+     */
+    private void checkWon() {
+        if (status == GameStatus.PLAYING && revealedCount == (rows * cols) - mineCount) {
+            status = GameStatus.WON;
+        }
+    }
+
+    /**
+     * Validates that the given linear index lies on the board.
+     *
+     * @param index the linear index of the cell
+     * @return the validated index
+     * @throws IndexOutOfBoundsException if the index is outside the board
+     */
+    private int checkIndex(int index) {
+        if (index < 0 || index >= rows * cols) {
+            throw new IndexOutOfBoundsException("Cell out of bounds: " + index);
+        }
+        return index;
+    }
+
+}
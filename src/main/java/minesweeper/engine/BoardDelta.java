@@ -0,0 +1,152 @@
+package minesweeper.engine;
+
+/**
+ * The {@code BoardDelta} class describes everything a single move changed on
+ * a {@link Board}: the cells it revealed, the cells whose flag it toggled,
+ * and the board's counters and {@link GameStatus} once the move was applied.
+ * A delta is delivered once per move to every {@link BoardListener}, so a
+ * whole flood fill or chord can be consumed in a single call.
+ * <p>
+ * Cells are given by linear index ({@code row * cols + col}) as primitive
+ * arrays. A flagged cell that is revealed is listed as revealed only, since
+ * revealing it removes its flag.
+ * </p>
+ * <p>
+ * The same delta is passed to every listener, and its getters return the
+ * arrays it holds rather than copies, so a flood fill over millions of cells
+ * is not copied once per listener. The board returns the same arrays from
+ * the move, so listeners must treat them as read only and copy them if they
+ * keep them beyond the call.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * board.addBoardListener(delta -&gt; {
+ *     for (int i : delta.getRevealed()) { ... }
+ *     if (delta.getStatus().isOver()) { ... }
+ * });
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.BoardListener
+ * @see minesweeper.engine.Board
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class BoardDelta {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The value used for an empty list of cells.
+     */
+    private static final int[] NONE = new int[0];
+
+    /**
+     * The linear indices of the cells revealed by the move, in the order they
+     * were revealed.
+     */
+    private final int[] revealed;
+
+    /**
+     * The linear indices of the cells whose flag was toggled by the move.
+     */
+    private final int[] flagged;
+
+    /**
+     * The number of flagged cells on the board after the move.
+     */
+    private final int flagCount;
+
+    /**
+     * The number of revealed safe cells on the board after the move.
+     */
+    private final int revealedCount;
+
+    /**
+     * The status of the game after the move.
+     */
+    private final GameStatus status;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a new {@code BoardDelta}. The arrays are not copied: the
+     * board also returns them from the move, once every listener has been
+     * called.
+     *
+     * @param revealed the cells revealed by the move, or {@code null} for none
+     * @param flagged the cells whose flag was toggled, or {@code null} for none
+     * @param flagCount the number of flagged cells after the move
+     * @param revealedCount the number of revealed safe cells after the move
+     * @param status the status of the game after the move
+     */
+    BoardDelta(int[] revealed, int[] flagged, int flagCount, int revealedCount, GameStatus status) {
+        this.revealed = revealed == null ? NONE : revealed;
+        this.flagged = flagged == null ? NONE : flagged;
+        this.flagCount = flagCount;
+        this.revealedCount = revealedCount;
+        this.status = status;
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the linear indices of the cells revealed by the move, in the
+     * order they were revealed. The array is shared with every other
+     * listener and must not be modified.
+     *
+     * @return the revealed cell indices, possibly empty
+     */
+    public int[] getRevealed() {
+        return revealed;
+    }
+
+    /**
+     * Returns the linear indices of the cells whose flag was toggled by the
+     * move. Whether a cell is now flagged can be read from the board. The
+     * array is shared with every other listener and must not be modified.
+     *
+     * @return the toggled cell indices, possibly empty
+     */
+    public int[] getFlagged() {
+        return flagged;
+    }
+
+    /**
+     * Returns the number of cells on the board that changed in the move.
+     *
+     * @return the number of revealed and toggled cells
+     */
+    public int size() {
+        return revealed.length + flagged.length;
+    }
+
+    /**
+     * Returns the number of flagged cells on the board after the move.
+     *
+     * @return the flag count
+     */
+    public int getFlagCount() {
+        return flagCount;
+    }
+
+    /**
+     * Returns the number of revealed safe cells on the board after the move.
+     *
+     * @return the revealed count
+     */
+    public int getRevealedCount() {
+        return revealedCount;
+    }
+
+    /**
+     * Returns the status of the game after the move.
+     *
+     * @return the {@link GameStatus} after the move
+     */
+    public GameStatus getStatus() {
+        return status;
+    }
+
+}
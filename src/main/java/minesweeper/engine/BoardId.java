@@ -0,0 +1,244 @@
+package minesweeper.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * The {@code BoardId} class identifies a generated board completely, so that
+ * the exact same mine layout can be regenerated for benchmarks, bug reports or
+ * sharing.
+ * <p>
+ * A board's mines are a pure function of the key (seed, rows, columns, mines,
+ * first-click index): the key is hashed into the seed of a
+ * {@link SplittableRandom}, which then drives {@link MinePlacer}. Two boards
+ * with the same key therefore always have the same layout, while changing any
+ * part of the key gives an unrelated one.
+ * </p>
+ * <p>
+ * The string form is compact, for example {@code g-u-2r-11-3pavy7tisx3uv} for
+ * a 16x30 board with 99 mines, holding rows, columns, mines, first click and
+ * seed in base 36.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * String id = board.getBoardId().toString();
+ * Board replay = Board.fromId(BoardId.parse(id));
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.Board
+ * @see java.util.SplittableRandom
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class BoardId {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The radix used by the string form.
+     */
+    private static final int RADIX = 36;
+
+    /**
+     * The number of rows on the board.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns on the board.
+     */
+    private final int cols;
+
+    /**
+     * The number of mines on the board.
+     */
+    private final int mines;
+
+    /**
+     * The linear index of the first cell touched, which never holds a mine.
+     */
+    private final int firstClick;
+
+    /**
+     * The seed from which the mines are generated.
+     */
+    private final long seed;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a board ID from its parts.
+     *
+     * @param rows the number of rows on the board
+     * @param cols the number of columns on the board
+     * @param mines the number of mines on the board
+     * @param firstClick the linear index of the first cell touched, which is
+     * kept free of mines
+     * @param seed the generation seed
+     */
+    public BoardId(int rows, int cols, int mines, int firstClick, long seed) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+        this.firstClick = firstClick;
+        this.seed = seed;
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the number of rows on the board.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns on the board.
+     *
+     * @return the number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the number of mines on the board.
+     *
+     * @return the number of mines
+     */
+    public int getMines() {
+        return mines;
+    }
+
+    /**
+     * Returns the linear index of the first cell touched.
+     *
+     * @return the first-click index
+     */
+    public int getFirstClick() {
+        return firstClick;
+    }
+
+    /**
+     * Returns the generation seed.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Creates the random generator that places the mines of this board. The
+     * whole key is mixed into the generator's seed, so every distinct key gets
+     * an independent stream.
+     *
+     * @return a new generator positioned at the start of this board's stream
+     */
+    public SplittableRandom newRandom() {
+        long h = mix(seed);
+        h = mix(h ^ rows);
+        h = mix(h ^ cols);
+        h = mix(h ^ mines);
+        h = mix(h ^ firstClick);
+        return new SplittableRandom(h);
+    }
+
+    /**
+     * Derives independent seeds from a master seed, one per board. Each seed
+     * comes from its own split of a {@link SplittableRandom}, so a batch of
+     * boards can be generated on many cores and still be reproduced exactly
+     * from the master seed.
+     *
+     * @param masterSeed the seed of the whole batch
+     * @param count the number of seeds to derive
+     * @return the derived seeds, in a fixed order
+     */
+    public static long[] splitSeeds(long masterSeed, int count) {
+        SplittableRandom master = new SplittableRandom(masterSeed);
+        long[] seeds = new long[count];
+        for (int i = 0; i < count; i++) {
+            seeds[i] = master.split().nextLong();
+        }
+        return seeds;
+    }
+
+    /**
+     * Parses a board ID from its string form.
+     *
+     * @param id the string form produced by {@link #toString()}
+     * @return the parsed board ID
+     * @throws IllegalArgumentException if the string is not a valid board ID
+     */
+    public static BoardId parse(String id) {
+        String[] parts = id.trim().split("-");
+        if (parts.length != 5) {
+            throw new IllegalArgumentException("Invalid board ID: " + id);
+        }
+
+        try {
+            return new BoardId(
+                    Integer.parseInt(parts[0], RADIX),
+                    Integer.parseInt(parts[1], RADIX),
+                    Integer.parseInt(parts[2], RADIX),
+                    Integer.parseInt(parts[3], RADIX),
+                    Long.parseUnsignedLong(parts[4], RADIX)
+            );
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid board ID: " + id, ex);
+        }
+    }
+
+    /**
+     * Returns the compact string form of this board ID.
+     *
+     * @return the string form
+     */
+    @Override
+    public String toString() {
+        return Integer.toString(rows, RADIX) + '-'
+                + Integer.toString(cols, RADIX) + '-'
+                + Integer.toString(mines, RADIX) + '-'
+                + Integer.toString(firstClick, RADIX) + '-'
+                + Long.toUnsignedString(seed, RADIX);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof BoardId)) {
+            return false;
+        }
+
+        BoardId other = (BoardId) o;
+        return rows == other.rows && cols == other.cols && mines == other.mines
+                && firstClick == other.firstClick && seed == other.seed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mix(seed ^ mix(((long) rows << 32 | cols) ^ mix((long) mines << 32 | firstClick))));
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Scrambles the bits of a value with the SplitMix64 finaliser.
+     *
+     * @param z the value to mix
+     * @return the mixed value
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,39 @@
+package minesweeper.engine;
+
+/**
+ * The {@code BoardListener} interface receives the changes made to a
+ * {@link Board}, one {@link BoardDelta} per move. It replaces per-cell
+ * callbacks: a reveal that opens thousands of cells is reported in a single
+ * call, so renderers can repaint, and statistics or recorders can log, a
+ * whole move at once.
+ * <p>
+ * Listeners are called synchronously, on the thread that made the move, and
+ * only for moves that changed something. Resetting a board is not reported.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * board.addBoardListener(delta -&gt; repaintCells(delta.getRevealed()));
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.BoardDelta
+ * @see minesweeper.engine.Board#addBoardListener(BoardListener)
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+@FunctionalInterface
+public interface BoardListener {
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Called after a move has changed the board.
+     *
+     * @param delta the changes made by the move
+     */
+    void boardChanged(BoardDelta delta);
+
+}
@@ -0,0 +1,230 @@
+package minesweeper.engine;
+
+/**
+ * The {@code BoardSpec} class describes the size and mine count of a board.
+ * Unlike the fixed difficulty levels, a {@code BoardSpec} can describe any
+ * board the engine can hold, up to {@link #MAX_CELLS} cells and
+ * {@link #MAX_SIDE} cells a side.
+ * <p>
+ * Instances are immutable and always valid: the factory methods reject
+ * dimensions and mine counts that cannot be played, so code that receives a
+ * {@code BoardSpec} does not need to check it again.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * BoardSpec spec = BoardSpec.of(2000, 5000, 2_000_000);
+ * Board board = spec.newBoard();
+ * BoardSpec expert = BoardSpec.parse("16x30:99");
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.Board
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class BoardSpec {
+
+    // ---------------------------- Constants ------------------------------- //
+    /**
+     * The largest number of cells a board may have. Each cell needs a little
+     * over one byte of board state, plus up to four bytes of flood fill queue
+     * while a large region opens.
+     */
+    public static final int MAX_CELLS = 1 << 28;
+
+    /**
+     * The largest number of rows or columns a board may have. It keeps the
+     * pixel size of a board drawn in one component within the range of an
+     * {@code int} for any cell size up to 32767 pixels.
+     */
+    public static final int MAX_SIDE = 1 << 16;
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The number of rows on the board.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns on the board.
+     */
+    private final int cols;
+
+    /**
+     * The number of mines on the board.
+     */
+    private final int mines;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Private constructor; use {@link #of(int, int, int)}.
+     */
+    private BoardSpec(int rows, int cols, int mines) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+    }
+
+    /**
+     * Creates a validated board specification.
+     *
+     * @param rows the number of rows, at least 1
+     * @param cols the number of columns, at least 1
+     * @param mines the number of mines, leaving at least one cell free
+     * @return the board specification
+     * @throws IllegalArgumentException if the board has fewer than two or more
+     * than {@link #MAX_CELLS} cells, more than {@link #MAX_SIDE} rows or
+     * columns, or if the mine count is negative or fills the whole board
+     */
+    public static BoardSpec of(int rows, int cols, int mines) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Invalid board size: " + rows + "x" + cols);
+        }
+
+        if (rows > MAX_SIDE || cols > MAX_SIDE) {
+            throw new IllegalArgumentException("Board must have at most " + MAX_SIDE
+                    + " rows and columns: " + rows + "x" + cols);
+        }
+
+        long cells = (long) rows * cols;
+        if (cells < 2 || cells > MAX_CELLS) {
+            throw new IllegalArgumentException("Board must have between 2 and " + MAX_CELLS
+                    + " cells: " + rows + "x" + cols);
+        }
+
+        if (mines < 0 || mines >= cells) {
+            throw new IllegalArgumentException("Mine count must be between 0 and " + (cells - 1)
+                    + ": " + mines);
+        }
+
+        return new BoardSpec(rows, cols, mines);
+    }
+
+    /**
+     * Parses a board specification of the form {@code ROWSxCOLS:MINES}, for
+     * example {@code 16x30:99}.
+     *
+     * @param spec the text to parse
+     * @return the board specification
+     * @throws IllegalArgumentException if the text is malformed or describes
+     * an invalid board
+     */
+    public static BoardSpec parse(String spec) {
+        String s = spec.trim().toLowerCase();
+        int x = s.indexOf('x');
+        int colon = s.indexOf(':');
+        if (x < 0 || colon < x) {
+            throw new IllegalArgumentException("Expected ROWSxCOLS:MINES but got: " + spec);
+        }
+
+        try {
+            return of(
+                    Integer.parseInt(s.substring(0, x).trim()),
+                    Integer.parseInt(s.substring(x + 1, colon).trim()),
+                    Integer.parseInt(s.substring(colon + 1).trim())
+            );
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Expected ROWSxCOLS:MINES but got: " + spec, ex);
+        }
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the number of mines.
+     *
+     * @return the number of mines
+     */
+    public int getMines() {
+        return mines;
+    }
+
+    /**
+     * Returns the number of cells on the board.
+     *
+     * @return the number of cells
+     */
+    public int getCellCount() {
+        return rows * cols;
+    }
+
+    /**
+     * Returns the fraction of cells that contain a mine.
+     *
+     * @return the mine density, from 0 to 1
+     */
+    public double getDensity() {
+        return (double) mines / getCellCount();
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Creates a new, empty board of this size with a random seed.
+     *
+     * @return a new {@link Board}
+     */
+    public Board newBoard() {
+        return new Board(rows, cols, mines);
+    }
+
+    /**
+     * Creates a new, empty board of this size with the given seed.
+     *
+     * @param seed the seed from which the mines are generated
+     * @return a new {@link Board}
+     */
+    public Board newBoard(long seed) {
+        return new Board(rows, cols, mines, seed);
+    }
+
+    /**
+     * Returns the specification in the form accepted by {@link #parse(String)}.
+     *
+     * @return the string form of this specification
+     */
+    @Override
+    public String toString() {
+        return rows + "x" + cols + ":" + mines;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof BoardSpec)) {
+            return false;
+        }
+
+        BoardSpec other = (BoardSpec) o;
+        return rows == other.rows && cols == other.cols && mines == other.mines;
+    }
+
+    @Override
+    public int hashCode() {
+        return (rows * 31 + cols) * 31 + mines;
+    }
+
+}
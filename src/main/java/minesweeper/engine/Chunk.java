@@ -0,0 +1,114 @@
+package minesweeper.engine;
+
+/**
+ * The {@code Chunk} class holds the state of one square block of cells of an
+ * {@link EndlessBoard}. A chunk is {@link #SIZE} cells a side and stores its
+ * cells by local index {@code ly * SIZE + lx}, in the same bit-packed layout
+ * as a {@link Board}.
+ *
+ * @see minesweeper.engine.EndlessBoard
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+final class Chunk {
+
+    // ---------------------------- Constants ------------------------------- //
+    /**
+     * The base-2 logarithm of {@link #SIZE}.
+     */
+    static final int SHIFT = 6;
+
+    /**
+     * The width and height of a chunk, in cells.
+     */
+    static final int SIZE = 1 << SHIFT;
+
+    /**
+     * The mask extracting a local coordinate from a world coordinate.
+     */
+    static final int MASK = SIZE - 1;
+
+    /**
+     * The number of cells in a chunk.
+     */
+    static final int CELLS = SIZE * SIZE;
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The bitset of cells, by local index, that contain a mine.
+     */
+    final long[] mines;
+
+    /**
+     * The bitset of cells, by local index, that have been revealed.
+     */
+    final long[] revealed;
+
+    /**
+     * The bitset of cells, by local index, that have been flagged.
+     */
+    final long[] flagged;
+
+    /**
+     * The number of neighbouring mines of each cell, by local index.
+     */
+    final byte[] adjacent;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a chunk with the given mines and neighbour counts and no
+     * revealed or flagged cells.
+     *
+     * @param mines the mine bitset of the chunk
+     * @param adjacent the neighbour mine counts of the chunk
+     */
+    Chunk(long[] mines, byte[] adjacent) {
+        this.mines = mines;
+        this.adjacent = adjacent;
+        this.revealed = Bits.create(CELLS);
+        this.flagged = Bits.create(CELLS);
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Checks whether the player has not touched this chunk yet.
+     *
+     * @return {@code true} if no cell is revealed or flagged
+     */
+    boolean isPristine() {
+        for (int w = 0; w < revealed.length; w++) {
+            if ((revealed[w] | flagged[w]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Packs the player's progress in this chunk into a compact array: the
+     * revealed bitset followed by the flagged bitset. Mines and neighbour
+     * counts are not stored since they can be regenerated from the seed.
+     *
+     * @return the compact state of the chunk
+     */
+    long[] compact() {
+        long[] state = new long[revealed.length * 2];
+        System.arraycopy(revealed, 0, state, 0, revealed.length);
+        System.arraycopy(flagged, 0, state, revealed.length, flagged.length);
+        return state;
+    }
+
+    /**
+     * Restores the player's progress from the result of {@link #compact()}.
+     *
+     * @param state the compact state of the chunk
+     */
+    void restore(long[] state) {
+        System.arraycopy(state, 0, revealed, 0, revealed.length);
+        System.arraycopy(state, revealed.length, flagged, 0, flagged.length);
+    }
+
+}
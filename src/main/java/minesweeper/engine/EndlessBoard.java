@@ -0,0 +1,691 @@
+package minesweeper.engine;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The {@code EndlessBoard} class is an unbounded Minesweeper board for the
+ * endless mode. Cells are addressed by signed world coordinates {@code (x, y)}
+ * and grouped into square {@link Chunk chunks} of 64x64 cells.
+ * <p>
+ * A chunk's mines are never stored permanently: they are derived on demand
+ * from a hash of the board seed and the chunk coordinates, so the same seed
+ * always yields the same infinite board. Chunks are only materialised when a
+ * reveal or the viewport reaches them. The most recently used chunks are kept
+ * in full; colder chunks are evicted to a compact form holding only the
+ * revealed and flagged bits, or dropped entirely if the player never touched
+ * them. Memory therefore depends on the explored area, not on the size of the
+ * board.
+ * </p>
+ * <p>
+ * The cells around the origin never contain a mine, so revealing
+ * {@code (0, 0)} is always a safe first move. Mine densities below
+ * {@link #MIN_DENSITY} are rejected because empty regions would then grow
+ * without bound and a single reveal would never finish.
+ * </p>
+ * <p>
+ * Like a {@link Board}, the board reports every move that changes it to its
+ * {@link EndlessBoardListener listeners}, once per move.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * EndlessBoard board = new EndlessBoard(seed, 0.18, 256);
+ * board.addBoardListener((changed, status) -&gt; repaintCells(changed));
+ * board.materialise(viewX0, viewY0, viewX1, viewY1);
+ * long[] changed = board.reveal(0, 0);
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.Board
+ * @see minesweeper.engine.MinePlacer
+ * @see minesweeper.gui.grid.EndlessCanvas
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public class EndlessBoard {
+
+    // ---------------------------- Constants ------------------------------- //
+    /**
+     * The lowest supported mine density. Below it, the cells without
+     * neighbouring mines percolate and an empty region can be infinite.
+     */
+    public static final double MIN_DENSITY = 0.1;
+
+    /**
+     * The highest supported mine density.
+     */
+    public static final double MAX_DENSITY = 0.9;
+
+    /**
+     * The smallest number of chunks kept in full: a cell and all of its
+     * neighbours always fit.
+     */
+    public static final int MIN_HOT_CHUNKS = 9;
+
+    /**
+     * The value returned by moves that change nothing.
+     */
+    private static final long[] NO_CHANGES = new long[0];
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The seed from which every chunk's mines are derived.
+     */
+    private final long seed;
+
+    /**
+     * The number of mines in each chunk.
+     */
+    private final int minesPerChunk;
+
+    /**
+     * The chunks kept in full, in least recently used order.
+     */
+    private final Map<Long, Chunk> hot;
+
+    /**
+     * The compact state of evicted chunks the player has touched.
+     */
+    private final Map<Long, long[]> cold = new HashMap<>();
+
+    /**
+     * The work queue of the flood fill, holding packed coordinates.
+     */
+    private long[] queue = new long[256];
+
+    /**
+     * The number of safe cells revealed so far.
+     */
+    private int revealedCount;
+
+    /**
+     * The current number of flagged cells.
+     */
+    private int flagCount;
+
+    /**
+     * The current status of the game.
+     */
+    private GameStatus status = GameStatus.PLAYING;
+
+    /**
+     * The listeners told about every move that changes the board. The list is
+     * copied on write, so a listener may remove itself while being called.
+     */
+    private final List<EndlessBoardListener> listeners = new CopyOnWriteArrayList<>();
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a new endless board.
+     *
+     * @param seed the seed from which the mines are derived
+     * @param density the fraction of cells containing a mine, between
+     * {@link #MIN_DENSITY} and {@link #MAX_DENSITY}
+     * @param maxHotChunks the number of chunks kept in full before the least
+     * recently used ones are evicted, at least {@link #MIN_HOT_CHUNKS}
+     * @throws IllegalArgumentException if the density or chunk limit is out of
+     * range
+     */
+    public EndlessBoard(long seed, double density, int maxHotChunks) {
+        if (!(density >= MIN_DENSITY && density <= MAX_DENSITY)) {
+            throw new IllegalArgumentException("Density must be between " + MIN_DENSITY
+                    + " and " + MAX_DENSITY + ": " + density);
+        }
+
+        if (maxHotChunks < MIN_HOT_CHUNKS) {
+            throw new IllegalArgumentException("At least " + MIN_HOT_CHUNKS
+                    + " hot chunks are needed: " + maxHotChunks);
+        }
+
+        this.seed = seed;
+        this.minesPerChunk = (int) Math.round(density * Chunk.CELLS);
+        this.hot = new LinkedHashMap<>(maxHotChunks * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                if (size() <= maxHotChunks) {
+                    return false;
+                }
+
+                if (!eldest.getValue().isPristine()) {
+                    cold.put(eldest.getKey(), eldest.getValue().compact());
+                }
+                return true;
+            }
+        };
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the seed from which the mines are derived.
+     *
+     * @return the board seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of revealed cells that do not contain a mine.
+     *
+     * @return the number of revealed safe cells
+     */
+    public int getRevealedCount() {
+        return revealedCount;
+    }
+
+    /**
+     * Returns the current number of flagged cells.
+     *
+     * @return the number of flagged cells
+     */
+    public int getFlagCount() {
+        return flagCount;
+    }
+
+    /**
+     * Returns the current status of the game. An endless game can be lost but
+     * never won.
+     *
+     * @return the {@link GameStatus} of the game
+     */
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the number of chunks currently kept in full.
+     *
+     * @return the number of hot chunks
+     */
+    public int getHotChunkCount() {
+        return hot.size();
+    }
+
+    /**
+     * Returns the number of evicted chunks kept in compact form.
+     *
+     * @return the number of cold chunks
+     */
+    public int getColdChunkCount() {
+        return cold.size();
+    }
+
+    /**
+     * Checks whether the cell at the given coordinates has been revealed. This
+     * query never materialises a chunk.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return {@code true} if the cell is revealed, {@code false} otherwise
+     */
+    public boolean isRevealed(int x, int y) {
+        return readBit(x, y, false);
+    }
+
+    /**
+     * Checks whether the cell at the given coordinates is flagged. This query
+     * never materialises a chunk.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return {@code true} if the cell is flagged, {@code false} otherwise
+     */
+    public boolean isFlagged(int x, int y) {
+        return readBit(x, y, true);
+    }
+
+    /**
+     * Checks whether the cell at the given coordinates contains a mine,
+     * materialising its chunk if needed.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return {@code true} if the cell contains a mine, {@code false} otherwise
+     */
+    public boolean hasMine(int x, int y) {
+        return Bits.get(chunkAt(x, y).mines, localIndex(x, y));
+    }
+
+    /**
+     * Returns the number of mines surrounding the cell at the given
+     * coordinates, materialising its chunk if needed.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the number of neighbouring mines, from 0 to 8
+     */
+    public int getAdjacentMines(int x, int y) {
+        return chunkAt(x, y).adjacent[localIndex(x, y)];
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Registers a listener to be told about every move that changes the
+     * board.
+     *
+     * @param listener the {@link EndlessBoardListener} to register
+     * @throws NullPointerException if the listener is {@code null}
+     */
+    public void addBoardListener(EndlessBoardListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    /**
+     * Removes a listener registered with
+     * {@link #addBoardListener(EndlessBoardListener)}. Does nothing if it was
+     * not registered.
+     *
+     * @param listener the {@link EndlessBoardListener} to remove
+     */
+    public void removeBoardListener(EndlessBoardListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Materialises every chunk overlapping the given rectangle of cells, for
+     * example the area currently visible on screen.
+     *
+     * @param x0 the leftmost column, inclusive
+     * @param y0 the topmost row, inclusive
+     * @param x1 the rightmost column, inclusive
+     * @param y1 the bottom row, inclusive
+     */
+    public void materialise(int x0, int y0, int x1, int y1) {
+        for (int cy = y0 >> Chunk.SHIFT; cy <= y1 >> Chunk.SHIFT; cy++) {
+            for (int cx = x0 >> Chunk.SHIFT; cx <= x1 >> Chunk.SHIFT; cx++) {
+                chunk(cx, cy);
+            }
+        }
+    }
+
+    /**
+     * Reveals the cell at the given coordinates. If the cell has no
+     * neighbouring mines, the surrounding empty region is revealed as well,
+     * across as many chunks as it spans. Revealing a mine loses the game.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the packed coordinates of the cells revealed by this move, see
+     * {@link #xOf(long)} and {@link #yOf(long)}
+     */
+    public long[] reveal(int x, int y) {
+        if (status.isOver() || isRevealed(x, y)) {
+            return NO_CHANGES;
+        }
+
+        Chunk chunk = chunkAt(x, y);
+        int local = localIndex(x, y);
+        if (Bits.get(chunk.flagged, local)) {
+            Bits.clear(chunk.flagged, local);
+            flagCount--;
+        }
+
+        if (Bits.get(chunk.mines, local)) {
+            Bits.set(chunk.revealed, local);
+            status = GameStatus.LOST;
+            return publish(new long[] {pack(x, y)});
+        }
+
+        return publish(Arrays.copyOf(queue, floodFill(0, x, y)));
+    }
+
+    /**
+     * Chords on the cell at the given coordinates. If the cell is a revealed
+     * number and exactly that many of its neighbours are flagged, every other
+     * hidden neighbour is revealed. A wrongly placed flag therefore loses the
+     * game, and the move stops at the first mine revealed.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the packed coordinates of the cells revealed by this move
+     */
+    public long[] chord(int x, int y) {
+        if (status.isOver() || !isRevealed(x, y) || hasMine(x, y)) {
+            return NO_CHANGES;
+        }
+
+        int adjacent = getAdjacentMines(x, y);
+        int flags = 0;
+        for (int ny = y - 1; ny <= y + 1; ny++) {
+            for (int nx = x - 1; nx <= x + 1; nx++) {
+                if (isFlagged(nx, ny)) {
+                    flags++;
+                }
+            }
+        }
+
+        if (adjacent == 0 || flags != adjacent) {
+            return NO_CHANGES;
+        }
+
+        int tail = 0;
+        for (int ny = y - 1; ny <= y + 1; ny++) {
+            for (int nx = x - 1; nx <= x + 1; nx++) {
+                if (isRevealed(nx, ny) || isFlagged(nx, ny)) {
+                    continue;
+                }
+
+                if (hasMine(nx, ny)) {
+                    tail = push(tail, nx, ny);
+                    status = GameStatus.LOST;
+                    return publish(Arrays.copyOf(queue, tail));
+                }
+                tail = floodFill(tail, nx, ny);
+            }
+        }
+
+        return publish(Arrays.copyOf(queue, tail));
+    }
+
+    /**
+     * Toggles the flag on the cell at the given coordinates. Hidden cells can
+     * always be flagged, since the board holds an unbounded number of mines.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return {@code true} if the flag state of the cell changed,
+     * {@code false} otherwise
+     */
+    public boolean toggleFlag(int x, int y) {
+        Chunk chunk = chunkAt(x, y);
+        int local = localIndex(x, y);
+        if (status.isOver() || Bits.get(chunk.revealed, local)) {
+            return false;
+        }
+
+        if (Bits.get(chunk.flagged, local)) {
+            Bits.clear(chunk.flagged, local);
+            flagCount--;
+        } else {
+            Bits.set(chunk.flagged, local);
+            flagCount++;
+        }
+
+        publish(new long[] {pack(x, y)});
+        return true;
+    }
+
+    /**
+     * Packs world coordinates into a single {@code long}.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the packed coordinates
+     */
+    public static long pack(int x, int y) {
+        return ((long) y << 32) | (x & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the column of packed coordinates.
+     *
+     * @param packed the packed coordinates
+     * @return the column of the cell
+     */
+    public static int xOf(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Returns the row of packed coordinates.
+     *
+     * @param packed the packed coordinates
+     * @return the row of the cell
+     */
+    public static int yOf(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Reveals the given safe, hidden cell and, if it has no neighbouring
+     * mines, the empty region around it, appending every cell revealed to the
+     * work queue. The revealed bits double as the visited set, so no cell is
+     * queued twice. Flagged cells stop the fill.
+     *
+     * @param tail the current length of the queue
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the new length of the queue
+     */
+    private int floodFill(int tail, int x, int y) {
+        int head = tail;
+        tail = push(tail, x, y);
+        for (; head < tail; head++) {
+            int cx = xOf(queue[head]);
+            int cy = yOf(queue[head]);
+            revealedCount++;
+
+            if (getAdjacentMines(cx, cy) != 0) {
+                continue;
+            }
+
+            for (int ny = cy - 1; ny <= cy + 1; ny++) {
+                for (int nx = cx - 1; nx <= cx + 1; nx++) {
+                    Chunk c = chunkAt(nx, ny);
+                    int l = localIndex(nx, ny);
+                    if (!Bits.get(c.revealed, l) && !Bits.get(c.flagged, l)) {
+                        tail = push(tail, nx, ny);
+                    }
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Reports the cells changed by the current move to the listeners, if
+     * there are any and the move changed something, and returns them. The
+     * listeners and the caller share the array.
+     *
+     * @param changed the packed coordinates of the changed cells
+     * @return the changed cells
+     */
+    private long[] publish(long[] changed) {
+        if (changed.length == 0) {
+            return NO_CHANGES;
+        }
+
+        for (EndlessBoardListener listener : listeners) {
+            listener.boardChanged(changed, status);
+        }
+        return changed;
+    }
+
+    /**
+     * Marks the given cell as revealed and appends it to the work queue,
+     * growing the queue if needed. The chunk is looked up and written in one
+     * step so that an eviction can never leave a stale chunk being updated.
+     *
+     * @param tail the current length of the queue
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the new length of the queue
+     */
+    private int push(int tail, int x, int y) {
+        Bits.set(chunkAt(x, y).revealed, localIndex(x, y));
+        if (tail == queue.length) {
+            queue = Arrays.copyOf(queue, tail * 2);
+        }
+        queue[tail] = pack(x, y);
+        return tail + 1;
+    }
+
+    /**
+     * Reads the revealed or flagged bit of a cell without materialising its
+     * chunk.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @param flag {@code true} to read the flagged bit, {@code false} for the
+     * revealed bit
+     * @return the value of the bit
+     */
+    private boolean readBit(int x, int y, boolean flag) {
+        long key = pack(x >> Chunk.SHIFT, y >> Chunk.SHIFT);
+        int local = localIndex(x, y);
+
+        Chunk chunk = hot.get(key);
+        if (chunk != null) {
+            return Bits.get(flag ? chunk.flagged : chunk.revealed, local);
+        }
+
+        long[] state = cold.get(key);
+        if (state == null) {
+            return false;
+        }
+        return (state[(flag ? Chunk.CELLS >>> 6 : 0) + (local >>> 6)] & (1L << local)) != 0;
+    }
+
+    /**
+     * Returns the chunk containing the given cell, materialising it if needed.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the chunk containing the cell
+     */
+    private Chunk chunkAt(int x, int y) {
+        return chunk(x >> Chunk.SHIFT, y >> Chunk.SHIFT);
+    }
+
+    /**
+     * Returns the chunk at the given chunk coordinates, materialising it from
+     * its seed and any compact state if it is not hot.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     * @return the chunk
+     */
+    private Chunk chunk(int cx, int cy) {
+        long key = pack(cx, cy);
+        Chunk chunk = hot.get(key);
+        if (chunk != null) {
+            return chunk;
+        }
+
+        long[] mines = generateMines(cx, cy);
+        chunk = new Chunk(mines, countAdjacentMines(cx, cy, mines));
+        long[] state = cold.remove(key);
+        if (state != null) {
+            chunk.restore(state);
+        }
+
+        hot.put(key, chunk);
+        return chunk;
+    }
+
+    /**
+     * Derives the mines of a chunk from the board seed and the chunk
+     * coordinates.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     * @return the mine bitset of the chunk
+     */
+    private long[] generateMines(int cx, int cy) {
+        long[] mines = Bits.create(Chunk.CELLS);
+        SplittableRandom rng = new SplittableRandom(BoardId.mix(seed ^ BoardId.mix(pack(cx, cy))));
+        MinePlacer.place(mines, Chunk.CELLS, minesPerChunk, safeCellsIn(cx, cy), rng);
+        return mines;
+    }
+
+    /**
+     * Returns the local indices of the cells around the origin that fall in
+     * the given chunk. These cells never contain a mine.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     * @return the local indices of the safe cells in the chunk
+     */
+    private static int[] safeCellsIn(int cx, int cy) {
+        int[] safe = new int[9];
+        int n = 0;
+        for (int y = -1; y <= 1; y++) {
+            for (int x = -1; x <= 1; x++) {
+                if (x >> Chunk.SHIFT == cx && y >> Chunk.SHIFT == cy) {
+                    safe[n++] = localIndex(x, y);
+                }
+            }
+        }
+        return Arrays.copyOf(safe, n);
+    }
+
+    /**
+     * Counts the neighbouring mines of every cell of a chunk. The chunk's
+     * mines are laid into a grid padded by one cell on each side, with the
+     * border filled from the neighbouring chunks' derived mines; those chunks
+     * are not materialised.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     * @param mines the mine bitset of the chunk
+     * @return the neighbour mine counts of the chunk
+     */
+    private byte[] countAdjacentMines(int cx, int cy, long[] mines) {
+        final int w = Chunk.SIZE + 2;
+        byte[] padded = new byte[w * w];
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                long[] m = (dx == 0 && dy == 0) ? mines : minesOf(cx + dx, cy + dy);
+                // only the edge facing this chunk is needed from a neighbour
+                int ly0 = dy < 0 ? Chunk.MASK : 0, ly1 = dy > 0 ? 0 : Chunk.MASK;
+                int lx0 = dx < 0 ? Chunk.MASK : 0, lx1 = dx > 0 ? 0 : Chunk.MASK;
+                for (int ly = ly0; ly <= ly1; ly++) {
+                    for (int lx = lx0; lx <= lx1; lx++) {
+                        if (Bits.get(m, ly * Chunk.SIZE + lx)) {
+                            int py = dy * Chunk.SIZE + ly + 1;
+                            int px = dx * Chunk.SIZE + lx + 1;
+                            padded[py * w + px] = 1;
+                        }
+                    }
+                }
+            }
+        }
+
+        byte[] adjacent = new byte[Chunk.CELLS];
+        for (int ly = 0; ly < Chunk.SIZE; ly++) {
+            for (int lx = 0; lx < Chunk.SIZE; lx++) {
+                int p = (ly + 1) * w + lx + 1;
+                adjacent[ly * Chunk.SIZE + lx] = (byte) (padded[p - w - 1] + padded[p - w] + padded[p - w + 1]
+                        + padded[p - 1] + padded[p + 1]
+                        + padded[p + w - 1] + padded[p + w] + padded[p + w + 1]);
+            }
+        }
+        return adjacent;
+    }
+
+    /**
+     * Returns the mines of a neighbouring chunk, reusing the hot chunk if
+     * there is one and deriving them from the seed otherwise.
+     *
+     * @param cx the chunk column
+     * @param cy the chunk row
+     * @return the mine bitset of the chunk
+     */
+    private long[] minesOf(int cx, int cy) {
+        Chunk chunk = hot.get(pack(cx, cy));
+        return chunk != null ? chunk.mines : generateMines(cx, cy);
+    }
+
+    /**
+     * Returns the index of a cell within its chunk.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the local index of the cell
+     */
+    private static int localIndex(int x, int y) {
+        return (y & Chunk.MASK) * Chunk.SIZE + (x & Chunk.MASK);
+    }
+
+}
@@ -0,0 +1,43 @@
+package minesweeper.engine;
+
+/**
+ * The {@code EndlessBoardListener} interface receives the changes made to an
+ * {@link EndlessBoard}, one call per move, as {@link BoardListener} does for
+ * a {@link Board}. Cells are given as packed world coordinates, since an
+ * endless board has no linear indices.
+ * <p>
+ * Listeners are called synchronously, on the thread that made the move, and
+ * only for moves that changed something.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * board.addBoardListener((changed, status) -&gt; repaintCells(changed));
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.EndlessBoard#addBoardListener(EndlessBoardListener)
+ * @see minesweeper.engine.BoardListener
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+@FunctionalInterface
+public interface EndlessBoardListener {
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Called after a move has changed the board. The array is shared with
+     * every other listener and with the caller of the move, and must not be
+     * modified.
+     *
+     * @param changed the packed coordinates of the cells revealed or toggled
+     * by the move, see {@link EndlessBoard#xOf(long)} and
+     * {@link EndlessBoard#yOf(long)}
+     * @param status the status of the game after the move
+     */
+    void boardChanged(long[] changed, GameStatus status);
+
+}
@@ -0,0 +1,49 @@
+package minesweeper.engine;
+
+/**
+ * The {@code GameStatus} enum represents the overall state of a single game
+ * played on a {@link Board}.
+ * <p>
+ * The possible states are:
+ * <ul>
+ * <li>{@link #PLAYING} - The game is still in progress.</li>
+ * <li>{@link #WON} - Every cell without a mine has been revealed.</li>
+ * <li>{@link #LOST} - A cell containing a mine has been revealed.</li>
+ * </ul>
+ * </p>
+ *
+ * @see minesweeper.engine.Board
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public enum GameStatus {
+
+    /**
+     * The game is in progress and the board still accepts moves.
+     */
+    PLAYING,
+
+    /**
+     * The player has revealed every cell that does not contain a mine.
+     */
+    WON,
+
+    /**
+     * The player has revealed a cell containing a mine.
+     */
+    LOST;
+
+    /**
+     * Checks whether this status ends the game.
+     *
+     * @return {@code true} if the game has been won or lost, {@code false}
+     * otherwise
+     */
+    public boolean isOver() {
+        return this != PLAYING;
+    }
+
+}
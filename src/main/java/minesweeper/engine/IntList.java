@@ -0,0 +1,87 @@
+package minesweeper.engine;
+
+import java.util.Arrays;
+
+/**
+ * The {@code IntList} class is a minimal growable list of primitive
+ * {@code int} values, used by the engine to collect cell indices without
+ * boxing.
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+final class IntList {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The backing array of the list.
+     */
+    private int[] data;
+
+    /**
+     * The number of values in the list.
+     */
+    private int size;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs an empty list with the given initial capacity.
+     *
+     * @param capacity the initial capacity of the list
+     */
+    IntList(int capacity) {
+        data = new int[Math.max(1, capacity)];
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the number of values in the list.
+     *
+     * @return the size of the list
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value at the given position.
+     *
+     * @param i the position of the value
+     * @return the value at that position
+     */
+    int get(int i) {
+        return data[i];
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Appends a value to the list, growing it if needed.
+     *
+     * @param value the value to append
+     */
+    void add(int value) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, size * 2);
+        }
+        data[size++] = value;
+    }
+
+    /**
+     * Removes every value from the list, keeping its capacity.
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the values of the list as a new array.
+     *
+     * @return a copy of the values in the list
+     */
+    int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+}
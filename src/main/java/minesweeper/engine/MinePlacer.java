@@ -0,0 +1,141 @@
+package minesweeper.engine;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code MinePlacer} class places mines on a board bitset in time bounded
+ * by the number of mines, whatever the density.
+ * <p>
+ * Mines are drawn with Floyd's sampling algorithm, a partial Fisher&ndash;Yates
+ * shuffle that needs no index array: each of the {@code k} draws costs one
+ * random number and one bitset lookup, and never retries. The safe cells are
+ * removed from the population before sampling, so they can never be chosen.
+ * When more than half of the candidate cells must be mines, the complement is
+ * sampled instead: every candidate is mined and the cells left free are drawn,
+ * so the number of draws never exceeds half the board.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * long[] mines = Bits.create(rows * cols);
+ * MinePlacer.place(mines, rows * cols, 99, new int[] {firstClick}, rng);
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.Board
+ * @see minesweeper.engine.Bits
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class MinePlacer {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MinePlacer() {
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Checks that the given number of mines fits on a board of the given size
+     * once the safe cells have been set aside.
+     *
+     * @param cellCount the number of cells on the board
+     * @param mineCount the number of mines to place
+     * @param safeCount the number of cells that must stay free of mines
+     * @throws IllegalArgumentException if the mine count is negative or larger
+     * than the number of candidate cells
+     */
+    public static void validate(int cellCount, int mineCount, int safeCount) {
+        if (mineCount < 0 || mineCount > cellCount - safeCount) {
+            throw new IllegalArgumentException("Cannot place " + mineCount + " mines on "
+                    + cellCount + " cells with " + safeCount + " safe cells");
+        }
+    }
+
+    /**
+     * Places mines on an empty bitset, leaving the safe cells free.
+     *
+     * @param mines the empty bitset receiving the mines
+     * @param cellCount the number of cells on the board
+     * @param mineCount the number of mines to place
+     * @param safe the linear indices of the cells that must stay free; they
+     * must be distinct and lie on the board
+     * @param rng the source of randomness
+     * @throws IllegalArgumentException if the mines do not fit, see
+     * {@link #validate(int, int, int)}
+     */
+    public static void place(long[] mines, int cellCount, int mineCount, int[] safe, RandomGenerator rng) {
+        int[] sorted = safe.clone();
+        Arrays.sort(sorted);
+        validate(cellCount, mineCount, sorted.length);
+
+        int population = cellCount - sorted.length;
+        if (mineCount <= population / 2) {
+            sample(mines, mineCount, population, sorted, rng, true);
+            return;
+        }
+
+        // Dense board: mine every candidate, then draw the free cells
+        Arrays.fill(mines, -1L);
+        if ((cellCount & 63) != 0) {
+            mines[mines.length - 1] = (1L << cellCount) - 1;
+        }
+        for (int s : sorted) {
+            Bits.clear(mines, s);
+        }
+        sample(mines, population - mineCount, population, sorted, rng, false);
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Draws {@code k} distinct candidate cells with Floyd's algorithm and sets
+     * or clears their bits.
+     *
+     * @param bits the bitset to update
+     * @param k the number of cells to draw
+     * @param population the number of candidate cells
+     * @param safe the sorted safe cells, excluded from the candidates
+     * @param rng the source of randomness
+     * @param set {@code true} to set the drawn bits, {@code false} to clear
+     * them
+     */
+    private static void sample(long[] bits, int k, int population, int[] safe, RandomGenerator rng, boolean set) {
+        for (int j = population - k; j < population; j++) {
+            int cell = toCell(rng.nextInt(j + 1), safe);
+            if (Bits.get(bits, cell) == set) { // already drawn, take j instead
+                cell = toCell(j, safe);
+            }
+
+            if (set) {
+                Bits.set(bits, cell);
+            } else {
+                Bits.clear(bits, cell);
+            }
+        }
+    }
+
+    /**
+     * Maps a candidate number to the linear index of the candidate cell,
+     * skipping over the safe cells.
+     *
+     * @param candidate the candidate number, from 0 to the population size
+     * @param safe the sorted safe cells
+     * @return the linear index of the candidate cell
+     */
+    private static int toCell(int candidate, int[] safe) {
+        int cell = candidate;
+        for (int s : safe) {
+            if (s > cell) {
+                break;
+            }
+            cell++;
+        }
+        return cell;
+    }
+
+}
@@ -0,0 +1,177 @@
+package minesweeper.engine;
+
+/**
+ * The {@code Neighbourhood} class provides allocation-free neighbour lookup
+ * for cells addressed by linear index on a board of fixed width.
+ * <p>
+ * The eight neighbours of a cell are described by a table of index offsets,
+ * one per direction, which is computed once per board width. Cells on the
+ * edge of the board have fewer than eight neighbours; for those, an edge mask
+ * selects the directions that stay on the board. The masks are precomputed
+ * for each of the sixteen combinations of top, bottom, left and right edges,
+ * so a lookup is a division, four comparisons and a table read.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * for (int m = hood.maskOf(index); m != 0; m &amp;= m - 1) {
+ *     int n = hood.neighbour(index, Integer.numberOfTrailingZeros(m));
+ *     ...
+ * }
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.Board
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class Neighbourhood {
+
+    // ---------------------------- Constants ------------------------------- //
+    /**
+     * The row offset of each of the eight directions, ordered NW, N, NE, W, E,
+     * SW, S, SE.
+     */
+    private static final int[] DR = {-1, -1, -1, 0, 0, 1, 1, 1};
+
+    /**
+     * The column offset of each of the eight directions, ordered NW, N, NE, W,
+     * E, SW, S, SE.
+     */
+    private static final int[] DC = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    /**
+     * The edge class bit of cells in the top row.
+     */
+    private static final int TOP = 1;
+
+    /**
+     * The edge class bit of cells in the bottom row.
+     */
+    private static final int BOTTOM = 2;
+
+    /**
+     * The edge class bit of cells in the leftmost column.
+     */
+    private static final int LEFT = 4;
+
+    /**
+     * The edge class bit of cells in the rightmost column.
+     */
+    private static final int RIGHT = 8;
+
+    /**
+     * The mask of on-board directions for each edge class, indexed by a
+     * combination of {@link #TOP}, {@link #BOTTOM}, {@link #LEFT} and
+     * {@link #RIGHT}.
+     */
+    private static final int[] EDGE_MASKS = new int[16];
+
+    static {
+        for (int edges = 0; edges < EDGE_MASKS.length; edges++) {
+            int mask = 0;
+            for (int k = 0; k < 8; k++) {
+                boolean off = (DR[k] < 0 && (edges & TOP) != 0)
+                        || (DR[k] > 0 && (edges & BOTTOM) != 0)
+                        || (DC[k] < 0 && (edges & LEFT) != 0)
+                        || (DC[k] > 0 && (edges & RIGHT) != 0);
+                if (!off) {
+                    mask |= 1 << k;
+                }
+            }
+            EDGE_MASKS[edges] = mask;
+        }
+    }
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The number of rows on the board.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns on the board.
+     */
+    private final int cols;
+
+    /**
+     * The linear index offset of each of the eight directions.
+     */
+    private final int[] offsets = new int[8];
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs the neighbour table for a board of the given size.
+     *
+     * @param rows the number of rows on the board
+     * @param cols the number of columns on the board
+     */
+    public Neighbourhood(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        for (int k = 0; k < 8; k++) {
+            offsets[k] = DR[k] * cols + DC[k];
+        }
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Returns the mask of directions that stay on the board for the given
+     * cell. Bit {@code k} is set if {@link #neighbour(int, int)} may be called
+     * with direction {@code k}.
+     *
+     * @param index the linear index of the cell
+     * @return the mask of valid directions
+     */
+    public int maskOf(int index) {
+        int row = index / cols;
+        int col = index - row * cols;
+
+        int edges = 0;
+        if (row == 0) {
+            edges |= TOP;
+        }
+        if (row == rows - 1) {
+            edges |= BOTTOM;
+        }
+        if (col == 0) {
+            edges |= LEFT;
+        }
+        if (col == cols - 1) {
+            edges |= RIGHT;
+        }
+        return EDGE_MASKS[edges];
+    }
+
+    /**
+     * Returns the linear index of the neighbour in the given direction. The
+     * direction must be allowed by the cell's {@link #maskOf(int) mask}.
+     *
+     * @param index the linear index of the cell
+     * @param direction the direction, from 0 to 7
+     * @return the linear index of the neighbour
+     */
+    public int neighbour(int index, int direction) {
+        return index + offsets[direction];
+    }
+
+    /**
+     * Writes the linear indices of every neighbour of the given cell into the
+     * supplied buffer, which must hold at least eight entries.
+     *
+     * @param index the linear index of the cell
+     * @param out the buffer receiving the neighbour indices
+     * @return the number of neighbours written
+     */
+    public int neighboursOf(int index, int[] out) {
+        int n = 0;
+        for (int m = maskOf(index); m != 0; m &= m - 1) {
+            out[n++] = index + offsets[Integer.numberOfTrailingZeros(m)];
+        }
+        return n;
+    }
+
+}
@@ -0,0 +1,259 @@
+package minesweeper.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code ParallelReveal} class opens an empty region of a very large
+ * {@link Board} using the fork/join framework.
+ * <p>
+ * The board is split into square tiles of {@link #TILE_SIZE} cells a side.
+ * The fill proceeds in rounds: in each round, every tile that has pending
+ * seed cells runs a breadth-first cascade confined to its own cells, in
+ * parallel with the other tiles. Cells that the cascade would enter in a
+ * neighbouring tile are handed back as seeds for that tile. Between rounds the
+ * results are merged into the board on the calling thread, and the rounds
+ * repeat until no tile has seeds left.
+ * </p>
+ * <p>
+ * Because tiles only read the shared board state during a round and all writes
+ * happen during the merge, no locking is needed. The set of cells revealed is
+ * exactly the set the sequential flood fill would reveal; only the order in
+ * which they are reported differs.
+ * </p>
+ *
+ * @see minesweeper.engine.Board
+ * @see java.util.concurrent.RecursiveAction
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+final class ParallelReveal {
+
+    // ---------------------------- Constants ------------------------------- //
+    /**
+     * The width and height of a tile, in cells.
+     */
+    static final int TILE_SIZE = 256;
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The number of rows on the board.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns on the board.
+     */
+    private final int cols;
+
+    /**
+     * The number of rows of tiles.
+     */
+    private final int tileRows;
+
+    /**
+     * The number of columns of tiles.
+     */
+    private final int tileCols;
+
+    /**
+     * The revealed bitset of the board, shared with the board.
+     */
+    private final long[] revealed;
+
+    /**
+     * The flagged bitset of the board, shared with the board.
+     */
+    private final long[] flagged;
+
+    /**
+     * The adjacency table of the board, shared with the board.
+     */
+    private final byte[] adjacent;
+
+    /**
+     * The neighbour table of the board.
+     */
+    private final Neighbourhood hood;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a parallel reveal over the given board state. The arrays are
+     * shared with the owning {@link Board}, not copied.
+     *
+     * @param rows the number of rows on the board
+     * @param cols the number of columns on the board
+     * @param revealed the revealed bitset of the board
+     * @param flagged the flagged bitset of the board
+     * @param adjacent the adjacency table of the board
+     * @param hood the neighbour table of the board
+     */
+    ParallelReveal(int rows, int cols, long[] revealed, long[] flagged, byte[] adjacent, Neighbourhood hood) {
+        this.rows = rows;
+        this.cols = cols;
+        this.tileRows = (rows + TILE_SIZE - 1) / TILE_SIZE;
+        this.tileCols = (cols + TILE_SIZE - 1) / TILE_SIZE;
+        this.revealed = revealed;
+        this.flagged = flagged;
+        this.adjacent = adjacent;
+        this.hood = hood;
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Reveals the region starting at the given safe, hidden cell. Every cell
+     * revealed is passed to the sink on the calling thread, which is expected
+     * to set its revealed bit.
+     *
+     * @param start the linear index of the first cell to reveal
+     * @param sink receives the index of each revealed cell
+     */
+    void fill(int start, IntConsumer sink) {
+        IntList[] pending = new IntList[tileRows * tileCols];
+        pending[tileOf(start)] = new IntList(1);
+        pending[tileOf(start)].add(start);
+
+        List<TileTask> tasks = new ArrayList<>();
+        while (true) {
+            tasks.clear();
+            for (int t = 0; t < pending.length; t++) {
+                if (pending[t] != null && pending[t].size() > 0) {
+                    tasks.add(new TileTask(t, pending[t].toArray()));
+                    pending[t].clear();
+                }
+            }
+
+            if (tasks.isEmpty()) {
+                return;
+            }
+
+            ForkJoinTask.invokeAll(tasks);
+
+            // Merge: all writes happen here, on the calling thread
+            for (TileTask task : tasks) {
+                for (int i = 0; i < task.opened.size(); i++) {
+                    sink.accept(task.opened.get(i));
+                }
+            }
+
+            for (TileTask task : tasks) {
+                for (int i = 0; i < task.outgoing.size(); i++) {
+                    int n = task.outgoing.get(i);
+                    if (Bits.get(revealed, n)) {
+                        continue;
+                    }
+
+                    int t = tileOf(n);
+                    if (pending[t] == null) {
+                        pending[t] = new IntList(64);
+                    }
+                    pending[t].add(n);
+                }
+            }
+        }
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Returns the tile containing the given cell.
+     *
+     * @param index the linear index of the cell
+     * @return the index of the tile
+     */
+    private int tileOf(int index) {
+        int row = index / cols;
+        int col = index - row * cols;
+        return (row / TILE_SIZE) * tileCols + col / TILE_SIZE;
+    }
+
+    // --------------------------- Inner Classes ---------------------------- //
+    /**
+     * Runs the cascade inside a single tile, recording the cells it opens and
+     * the cells it would enter in other tiles.
+     */
+    private final class TileTask extends RecursiveAction {
+
+        /**
+         * The index of the tile this task fills.
+         */
+        private final int tile;
+
+        /**
+         * The cells of the tile the cascade starts from.
+         */
+        private final int[] seeds;
+
+        /**
+         * The cells opened by the cascade, in the order they were opened.
+         */
+        private final IntList opened = new IntList(256);
+
+        /**
+         * The cells the cascade would enter in other tiles.
+         */
+        private final IntList outgoing = new IntList(64);
+
+        TileTask(int tile, int[] seeds) {
+            this.tile = tile;
+            this.seeds = seeds;
+        }
+
+        @Override
+        protected void compute() {
+            int r0 = (tile / tileCols) * TILE_SIZE;
+            int c0 = (tile % tileCols) * TILE_SIZE;
+            int r1 = Math.min(rows, r0 + TILE_SIZE);
+            int c1 = Math.min(cols, c0 + TILE_SIZE);
+            long[] visited = Bits.create(TILE_SIZE * TILE_SIZE);
+
+            for (int seed : seeds) {
+                visit(seed, r0, c0, visited);
+            }
+
+            for (int head = 0; head < opened.size(); head++) {
+                int index = opened.get(head);
+                if (adjacent[index] != 0) {
+                    continue;
+                }
+
+                for (int m = hood.maskOf(index); m != 0; m &= m - 1) {
+                    int n = hood.neighbour(index, Integer.numberOfTrailingZeros(m));
+                    int row = n / cols;
+                    int col = n - row * cols;
+                    if (row >= r0 && row < r1 && col >= c0 && col < c1) {
+                        visit(n, r0, c0, visited);
+                    } else if (!Bits.get(revealed, n) && !Bits.get(flagged, n)) {
+                        outgoing.add(n);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Opens a cell of this tile unless it is already revealed, flagged or
+         * visited in this round.
+         */
+        private void visit(int index, int r0, int c0, long[] visited) {
+            if (Bits.get(revealed, index) || Bits.get(flagged, index)) {
+                return;
+            }
+
+            int row = index / cols;
+            int local = (row - r0) * TILE_SIZE + (index - row * cols - c0);
+            if (Bits.get(visited, local)) {
+                return;
+            }
+
+            Bits.set(visited, local);
+            opened.add(index);
+        }
+
+    }
+
+}
@@ -1,8 +1,19 @@
 package minesweeper.gui;
 
+import java.awt.Graphics;
 import java.awt.HeadlessException;
+import java.awt.event.KeyEvent;
 import javax.swing.JFrame;
+import javax.swing.JMenu;
+import javax.swing.JMenuBar;
+import javax.swing.JMenuItem;
+import javax.swing.KeyStroke;
 import minesweeper.GameManager;
+import minesweeper.engine.BoardSpec;
+import minesweeper.gui.dialogues.CustomBoardDialog;
+import minesweeper.gui.dialogues.GameOverOverlay;
+import minesweeper.gui.grid.Difficulty;
+import minesweeper.util.StartupMetrics;
 
 /**
  * The {@code GameFrame} class is a singleton implementation of a {@link JFrame}
@@ -21,6 +32,9 @@ import minesweeper.GameManager;
  * <li>Singleton pattern to ensure a single instance of the main game
  * window.</li>
  * <li>Automatic setup of the game's main interface as the content pane.</li>
+ * <li>A reusable game over overlay installed as the glass pane.</li>
+ * <li>A game menu for restarting and for choosing the difficulty, a custom
+ * board size or an endless board.</li>
  * <li>Centralised control over window behaviours, such as close operations and
  * positioning.</li>
  * </ul>
@@ -41,6 +55,17 @@ public class GameFrame extends JFrame {
      */
     private static final GameFrame instance = new GameFrame();
 
+    /**
+     * The game over overlay, installed as the glass pane and reused for every
+     * game.
+     */
+    private final GameOverOverlay gameOverOverlay = new GameOverOverlay();
+
+    /**
+     * Whether the frame has been painted at least once.
+     */
+    private boolean painted;
+
     /**
      * Returns the singleton instance of the {@code GameFrame}. This method
      * provides global access to the main game window, ensuring that only one
@@ -52,6 +77,15 @@ public class GameFrame extends JFrame {
         return instance;
     }
 
+    /**
+     * Returns the overlay used to show the game over message.
+     *
+     * @return the frame's {@link GameOverOverlay}
+     */
+    public GameOverOverlay getGameOverOverlay() {
+        return gameOverOverlay;
+    }
+
     /**
      * Private constructor for {@code GameFrame}, enforcing the singleton
      * pattern. Initialises the frame by setting the game's main interface as
@@ -62,10 +96,76 @@ public class GameFrame extends JFrame {
      * @throws HeadlessException if the system does not support a display screen
      */
     private GameFrame() throws HeadlessException {
+        long start = System.nanoTime();
         setDefaultCloseOperation(EXIT_ON_CLOSE);
         setContentPane(GameManager.getMainInterface());
+        setJMenuBar(createMenuBar());
+        setGlassPane(gameOverOverlay);
         pack();
         setLocationRelativeTo(null);
+        StartupMetrics.record("GameFrame construction", System.nanoTime() - start);
+    }
+
+    /**
+     * Paints the frame, telling the {@link GameManager} the first time it has
+     * been painted so that the time to first frame can be reported.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     */
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (!painted) {
+            painted = true;
+            GameManager.firstFramePainted();
+        }
+    }
+
+    /**
+     * Creates the menu bar of the game window, offering a restart, each
+     * {@link Difficulty} level, a custom board, an endless board and an exit
+     * item.
+     *
+     * @return the game's {@link JMenuBar}
+     */
+    private JMenuBar createMenuBar() {
+        JMenu menu = new JMenu("Game");
+        menu.setMnemonic(KeyEvent.VK_G);
+
+        JMenuItem restart = new JMenuItem("Restart");
+        restart.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_F2, 0));
+        restart.addActionListener(ev -> GameManager.restart());
+        menu.add(restart);
+        menu.addSeparator();
+
+        for (Difficulty difficulty : Difficulty.values()) {
+            JMenuItem item = new JMenuItem(difficulty.name().charAt(0)
+                    + difficulty.name().substring(1).toLowerCase());
+            item.addActionListener(ev -> GameManager.newGame(difficulty.getSpec()));
+            menu.add(item);
+        }
+
+        JMenuItem custom = new JMenuItem("Custom...");
+        custom.addActionListener(ev -> {
+            BoardSpec spec = CustomBoardDialog.showDialog(this, GameManager.getBoardSpec());
+            if (spec != null) {
+                GameManager.newGame(spec);
+            }
+        });
+        menu.add(custom);
+
+        JMenuItem endless = new JMenuItem("Endless");
+        endless.addActionListener(ev -> GameManager.newEndlessGame());
+        menu.add(endless);
+        menu.addSeparator();
+
+        JMenuItem exit = new JMenuItem("Exit");
+        exit.addActionListener(ev -> GameManager.endGame());
+        menu.add(exit);
+
+        JMenuBar bar = new JMenuBar();
+        bar.add(menu);
+        return bar;
     }
 
-}
\ No newline at end of file
+}
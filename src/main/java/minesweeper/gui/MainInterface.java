@@ -4,23 +4,41 @@ import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import javax.swing.JComponent;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import minesweeper.engine.BoardSpec;
+import minesweeper.engine.EndlessBoard;
+import minesweeper.gui.grid.BoardCanvas;
+import minesweeper.gui.grid.BoardView;
 import minesweeper.gui.grid.Difficulty;
+import minesweeper.gui.grid.EndlessCanvas;
 import minesweeper.gui.grid.GameGrid;
+import minesweeper.gui.grid.RenderMode;
 
 /**
  * The {@code MainInterface} class serves as the main container panel for the
  * Minesweeper game. It integrates and manages all the components necessary for
  * the game's user interface, particularly the game grid. This class is
  * responsible for initializing the game grid based on the selected difficulty
- * and cell size, and provides methods for restarting the game.
+ * or {@link BoardSpec} and cell size, and provides methods for restarting the
+ * game or starting a new one with a different board.
  * <p>
  * The {@code MainInterface} ensures that the game components are properly laid
  * out and displayed, handling layout and component initialization tasks.
  * </p>
+ * <p>
+ * The board is drawn in the {@link RenderMode} chosen by
+ * {@link RenderMode#forSpec(BoardSpec)}: small boards use a {@link GameGrid}
+ * of cell components, larger boards a scrollable {@link BoardCanvas}. An
+ * endless game is drawn by an {@link EndlessCanvas} instead.
+ * </p>
  *
  * @see minesweeper.gui.grid.GameGrid
+ * @see minesweeper.gui.grid.BoardCanvas
+ * @see minesweeper.gui.grid.EndlessCanvas
  * @see minesweeper.gui.grid.Difficulty
+ * @see minesweeper.engine.BoardSpec
  * @see javax.swing.JPanel
  *
  * @since 1.0
@@ -37,15 +55,29 @@ public class MainInterface extends JPanel {
     private static final int MINIMUM_CELL_SIZE = 20;
 
     /**
-     * The {@link GameGrid} instance representing the Minesweeper grid.
+     * The {@link BoardView} displaying the board: a {@link GameGrid}, a
+     * {@link BoardCanvas} or an {@link EndlessCanvas}.
      */
-    private GameGrid grid;
+    private BoardView view;
 
     /**
-     * The difficulty level of the game, determining the grid size and number of
-     * mines.
+     * The component added to this panel for the current view: the
+     * {@link GameGrid} or {@link EndlessCanvas} itself, or the scroll pane
+     * wrapping a {@link BoardCanvas}.
      */
-    private Difficulty difficulty;
+    private JComponent viewComponent;
+
+    /**
+     * The board specification of the game, determining the grid size and
+     * number of mines. During an endless game it holds the last finite board,
+     * whose mine density the endless board uses.
+     */
+    private BoardSpec spec;
+
+    /**
+     * The size of each cell in the grid, in pixels.
+     */
+    private final int cellSize;
 
     /**
      * Constructs the {@code MainInterface} with the specified difficulty level
@@ -58,14 +90,23 @@ public class MainInterface extends JPanel {
      * smaller than {@link #MINIMUM_CELL_SIZE}
      */
     public MainInterface(Difficulty difficulty, int cellSize) {
-        super(new BorderLayout(), true);
-        cellSize = Math.max(MINIMUM_CELL_SIZE, cellSize);
+        this(difficulty.getSpec(), cellSize);
+    }
 
-        this.difficulty = difficulty;
+    /**
+     * Constructs the {@code MainInterface} for a board of any size described
+     * by the given {@link BoardSpec}, with the specified cell size.
+     *
+     * @param spec the {@link BoardSpec} of the game
+     * @param cellSize the size of each cell in the grid, adjusted to not be
+     * smaller than {@link #MINIMUM_CELL_SIZE}
+     */
+    public MainInterface(BoardSpec spec, int cellSize) {
+        super(new BorderLayout(), true);
+        this.cellSize = Math.max(MINIMUM_CELL_SIZE, cellSize);
+        this.spec = spec;
 
-        int panelWidth = difficulty.getCols() * cellSize;
-        int panelHeight = difficulty.getRows() * cellSize;
-        setPreferredSize(new Dimension(panelWidth, panelHeight));
+        updatePreferredSize();
         initComponents();
     }
 
@@ -73,22 +114,80 @@ public class MainInterface extends JPanel {
      * Returns the current game grid. This method provides access to the
      * {@link GameGrid} that represents the Minesweeper grid.
      *
-     * @return the current {@link GameGrid}
+     * @return the current {@link GameGrid}, or {@code null} if the board is
+     * drawn in {@link RenderMode#VIRTUAL} mode
+     * @see #getBoardView()
      */
     public GameGrid getGameGrid() {
-        return grid;
+        return view instanceof GameGrid grid ? grid : null;
     }
 
     /**
-     * Restarts the game by removing the current grid and creating a new one
-     * with the same difficulty settings. This method resets the game state,
-     * allowing the player to start a new game with the same configuration.
+     * Returns the view displaying the current board, whatever its
+     * {@link RenderMode}.
+     *
+     * @return the current {@link BoardView}
      */
-    public void restart() {
-        remove(grid);
-        grid = new GameGrid(difficulty);
+    public BoardView getBoardView() {
+        return view;
+    }
+
+    /**
+     * Returns the specification of the board currently being played.
+     *
+     * @return the current {@link BoardSpec}
+     */
+    public BoardSpec getBoardSpec() {
+        return spec;
+    }
+
+    /**
+     * Starts a new game on a board described by the given specification,
+     * replacing the current grid and resizing the panel to fit it. If the
+     * specification is unchanged the game is simply {@linkplain #restart()
+     * restarted}, unless an endless game is being played.
+     *
+     * @param spec the {@link BoardSpec} of the new game
+     */
+    public void setBoardSpec(BoardSpec spec) {
+        if (spec.equals(this.spec) && !(view instanceof EndlessCanvas)) {
+            restart();
+            return;
+        }
+
+        this.spec = spec;
+        updatePreferredSize();
+
+        remove(viewComponent);
+        initComponents();
+        revalidate();
+    }
+
+    /**
+     * Starts an endless game, replacing the current view with an
+     * {@link EndlessCanvas}. The endless board has the mine density of the
+     * current board, kept within the range an endless board supports.
+     */
+    public void startEndless() {
+        double density = Math.max(EndlessBoard.MIN_DENSITY,
+                Math.min(EndlessBoard.MAX_DENSITY, spec.getDensity()));
+        setPreferredSize(null);
+
+        remove(viewComponent);
+        EndlessCanvas canvas = new EndlessCanvas(density, cellSize);
+        view = canvas;
+        viewComponent = canvas;
+        add(viewComponent, BorderLayout.CENTER);
         revalidate();
-        add(grid, BorderLayout.CENTER);
+    }
+
+    /**
+     * Restarts the game with the same board settings. The current view is
+     * reset in place (see {@link BoardView#reset()}), reusing its components,
+     * so restarting neither rebuilds the grid nor triggers a layout pass.
+     */
+    public void restart() {
+        view.reset();
     }
 
     /**
@@ -107,11 +206,37 @@ public class MainInterface extends JPanel {
 
     /**
      * Initializes the components of the main interface. This method sets up the
-     * game grid and adds it to the panel.
+     * view for the current board and adds it to the panel.
      */
     private void initComponents() {
-        grid = new GameGrid(difficulty);
-        add(grid, BorderLayout.CENTER);
+        if (RenderMode.forSpec(spec) == RenderMode.COMPONENTS) {
+            GameGrid grid = new GameGrid(spec);
+            view = grid;
+            viewComponent = grid;
+        } else {
+            BoardCanvas canvas = new BoardCanvas(spec, cellSize);
+            view = canvas;
+            viewComponent = new JScrollPane(canvas);
+        }
+
+        add(viewComponent, BorderLayout.CENTER);
+    }
+
+    /**
+     * Sets the preferred size of the panel from the board dimensions and the
+     * cell size. In {@link RenderMode#VIRTUAL} mode the preferred size is
+     * left to the scroll pane, which caps it at the canvas's preferred
+     * viewport.
+     */
+    private void updatePreferredSize() {
+        if (RenderMode.forSpec(spec) == RenderMode.VIRTUAL) {
+            setPreferredSize(null);
+            return;
+        }
+
+        int panelWidth = spec.getCols() * cellSize;
+        int panelHeight = spec.getRows() * cellSize;
+        setPreferredSize(new Dimension(panelWidth, panelHeight));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package minesweeper.gui.dialogues;
+
+import java.awt.Component;
+import java.awt.GridLayout;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
+import minesweeper.engine.BoardSpec;
+
+/**
+ * The {@code CustomBoardDialog} class asks the player for the dimensions and
+ * mine count of a custom board. The values are entered with spinners and
+ * validated by {@link BoardSpec#of(int, int, int)}; invalid input is reported
+ * and the player is asked again.
+ * <p>
+ * Usage example:
+ * <pre>
+ * BoardSpec spec = CustomBoardDialog.showDialog(frame, currentSpec);
+ * if (spec != null) { ... }
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.engine.BoardSpec
+ * @see javax.swing.JOptionPane
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public class CustomBoardDialog {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CustomBoardDialog() {
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Shows the custom board dialog, pre-filled with the given specification.
+     *
+     * @param parent the component the dialog is centred on
+     * @param initial the specification to pre-fill the dialog with
+     * @return the specification entered by the player, or {@code null} if the
+     * dialog was cancelled
+     */
+    public static BoardSpec showDialog(Component parent, BoardSpec initial) {
+        JSpinner rows = createSpinner(initial.getRows());
+        JSpinner cols = createSpinner(initial.getCols());
+        JSpinner mines = createSpinner(initial.getMines());
+
+        JPanel panel = new JPanel(new GridLayout(3, 2, 5, 5));
+        panel.add(new JLabel("Rows:"));
+        panel.add(rows);
+        panel.add(new JLabel("Columns:"));
+        panel.add(cols);
+        panel.add(new JLabel("Mines:"));
+        panel.add(mines);
+
+        while (true) {
+            int option = JOptionPane.showConfirmDialog(
+                    parent, panel, "Custom Board", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE
+            );
+            if (option != JOptionPane.OK_OPTION) {
+                return null;
+            }
+
+            try {
+                return BoardSpec.of(
+                        (Integer) rows.getValue(),
+                        (Integer) cols.getValue(),
+                        (Integer) mines.getValue()
+                );
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(parent, ex.getMessage(), "Invalid Board", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Creates a spinner for a non-negative integer value.
+     *
+     * @param value the initial value of the spinner
+     * @return a new {@link JSpinner}
+     */
+    private static JSpinner createSpinner(int value) {
+        return new JSpinner(new SpinnerNumberModel(value, 0, BoardSpec.MAX_CELLS, 1));
+    }
+
+}
@@ -9,7 +9,6 @@ import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
-import javax.swing.JDialog;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.UIManager;
@@ -30,13 +29,15 @@ import minesweeper.util.Palette;
  * <li>A message label to display the game over text.</li>
  * <li>Buttons for restarting the game and exiting the application.</li>
  * </ul>
- * The {@code GOContentPane} is designed to be used within a {@link JDialog} and
- * interacts with the {@link GameManager} to control the game flow based on user
- * actions.
+ * The {@code GOContentPane} is built once and shown by the
+ * {@link GameOverOverlay} at the end of every game; {@link #setMessage(String)}
+ * changes its text between games. It interacts with the {@link GameManager} to
+ * control the game flow based on user actions, and calls back its owner to be
+ * dismissed.
  * </p>
  *
  * @see javax.swing.JPanel
- * @see javax.swing.JDialog
+ * @see minesweeper.gui.dialogues.GameOverOverlay
  * @see minesweeper.GameManager
  * @see minesweeper.util.GameFont
  * @see minesweeper.util.Palette
@@ -50,15 +51,24 @@ public class GOContentPane extends JPanel {
 
     // ------------------------------ Fields -------------------------------- //
     /**
-     * The default font used for the game over message and buttons, derived from
-     * the {@link GameFont#RAINYHEARTS}.
+     * The smallest point size the game over message is shrunk to when the
+     * pane is narrower than its preferred width.
      */
-    private static final Font DEFAULT_FONT = GameFont.RAINYHEARTS.getFont();
+    private static final float MIN_MESSAGE_SIZE = 24f;
 
     /**
-     * The parent dialog containing this content pane.
+     * The point size of the game over message at the preferred width.
      */
-    private JDialog parent;
+    private static final float MESSAGE_SIZE = 62f;
+
+    static {
+        UIManager.put("Button.select", Palette.PRIMARY_2);
+    }
+
+    /**
+     * Hides the pane when the player picks an option.
+     */
+    private final Runnable dismiss;
 
     /**
      * The label displaying the game over message.
@@ -76,7 +86,8 @@ public class GOContentPane extends JPanel {
     private JButton btnExit;
 
     /**
-     * The font used for the game over message.
+     * The font used for the game over message, derived from
+     * {@link GameFont#RAINYHEARTS}.
      */
     private Font messageFont;
 
@@ -97,20 +108,18 @@ public class GOContentPane extends JPanel {
 
     // --------------------------- Constructors ----------------------------- //
     /**
-     * Constructs a new {@code GOContentPane} with the specified parent dialog
-     * and game over message text. This constructor sets up the UIManager
-     * properties for button selection color, initializes fonts and colors, and
-     * lays out the components within the panel.
+     * Constructs a new {@code GOContentPane} with an empty message. This
+     * constructor initializes fonts and colors and lays out the components
+     * within the panel; the UIManager property for the button selection color
+     * is set once, when the class is loaded.
      *
-     * @param parent the parent {@link JDialog} that contains this content pane
-     * @param gameOverText the text to display as the game over message
+     * @param dismiss the action that hides this pane, run before the chosen
+     * option is carried out
      */
-    public GOContentPane(JDialog parent, String gameOverText) {
-        UIManager.put("Button.select", Palette.PRIMARY_2);
-
-        this.parent = parent;
-        this.messageFont = DEFAULT_FONT.deriveFont(62f);
-        this.buttonFont = DEFAULT_FONT.deriveFont(20f);
+    public GOContentPane(Runnable dismiss) {
+        this.dismiss = dismiss;
+        this.messageFont = GameFont.RAINYHEARTS.getFont(Font.PLAIN, MESSAGE_SIZE);
+        this.buttonFont = GameFont.RAINYHEARTS.getFont(Font.PLAIN, 20f);
         this.btnBackground = Palette.PRIMARY_1;
         this.btnForeground = Palette.getHighContrastAgainst(btnBackground);
 
@@ -119,7 +128,30 @@ public class GOContentPane extends JPanel {
         setSize(getPreferredSize());
         setBackground(Palette.PRIMARY_3);
         setBorder(BorderFactory.createLineBorder(Palette.PRIMARY_2, 2));
-        initComponents(gameOverText);
+        initComponents("");
+    }
+
+    // ------------------------------ Setters ------------------------------- //
+    /**
+     * Sets the game over message shown by this pane.
+     *
+     * @param message the game over message to display
+     */
+    public void setMessage(String message) {
+        lblMessage.setText(message);
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Shrinks the game over message to fit the given width, down to
+     * {@value #MIN_MESSAGE_SIZE} points, so the pane stays legible on small
+     * boards. The derived fonts are cached by {@link GameFont}.
+     *
+     * @param width the width the pane will be laid out at, in pixels
+     */
+    public void fitWidth(int width) {
+        float size = Math.min(MESSAGE_SIZE, MESSAGE_SIZE * width / getPreferredSize().width);
+        lblMessage.setFont(GameFont.RAINYHEARTS.getFont(Font.PLAIN, Math.max(MIN_MESSAGE_SIZE, size)));
     }
 
     // -------------------------- Helper Methods ---------------------------- //
@@ -136,12 +168,12 @@ public class GOContentPane extends JPanel {
         lblMessage = createLabel(message);
 
         btnRestart.addActionListener(ev -> {
-            parent.dispose();
+            dismiss.run();
             GameManager.restart();
         });
 
         btnExit.addActionListener(ev -> {
-            parent.dispose();
+            dismiss.run();
             GameManager.endGame();
         });
 
@@ -0,0 +1,115 @@
+package minesweeper.gui.dialogues;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.event.MouseAdapter;
+import javax.swing.JComponent;
+
+/**
+ * The {@code GameOverOverlay} class shows the game over message on top of the
+ * game window, as the frame's glass pane, instead of in a modal dialog. It is
+ * built once and reused for every game: showing it only changes the message
+ * and makes it visible, so it returns immediately rather than entering a
+ * nested event loop from inside the mouse handler that ended the game.
+ * <p>
+ * While visible, the overlay dims the board and swallows mouse events so the
+ * board cannot be played. It is hidden by the buttons of its
+ * {@link GOContentPane} or by {@link #dismiss()}, for example when a new game
+ * is started from the menu.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * GameOverOverlay overlay = new GameOverOverlay();
+ * frame.setGlassPane(overlay);
+ * overlay.showMessage("You Win!");
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.gui.dialogues.GOContentPane
+ * @see javax.swing.JRootPane#setGlassPane(java.awt.Component)
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public class GameOverOverlay extends JComponent {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The translucent colour painted over the board while the overlay is
+     * shown.
+     */
+    private static final Color VEIL = new Color(0, 0, 0, 128);
+
+    /**
+     * The smallest gap kept between the content pane and the window edges.
+     */
+    private static final int MARGIN = 8;
+
+    /**
+     * The message and buttons, built once.
+     */
+    private final GOContentPane content;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a new, hidden {@code GameOverOverlay}.
+     */
+    public GameOverOverlay() {
+        content = new GOContentPane(this::dismiss);
+        add(content);
+
+        setOpaque(false);
+        setVisible(false);
+        addMouseListener(new MouseAdapter() {}); // blocks clicks to the board
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Shows the overlay with the given message. Returns immediately.
+     *
+     * @param message the game over message to display
+     */
+    public void showMessage(String message) {
+        content.setMessage(message);
+        setVisible(true);
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Hides the overlay. Does nothing if it is not shown.
+     */
+    public void dismiss() {
+        setVisible(false);
+    }
+
+    /**
+     * Centres the content pane, shrinking it to fit windows smaller than its
+     * preferred size.
+     */
+    @Override
+    public void doLayout() {
+        Dimension pref = content.getPreferredSize();
+        int width = Math.max(0, Math.min(pref.width, getWidth() - 2 * MARGIN));
+        int height = Math.max(0, Math.min(pref.height, getHeight() - 2 * MARGIN));
+
+        content.fitWidth(width);
+        content.setBounds((getWidth() - width) / 2, (getHeight() - height) / 2, width, height);
+    }
+
+    /**
+     * Dims the board beneath the content pane.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        g.setColor(VEIL);
+        g.fillRect(0, 0, getWidth(), getHeight());
+    }
+
+}
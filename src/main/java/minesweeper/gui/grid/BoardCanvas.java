@@ -0,0 +1,422 @@
+package minesweeper.gui.grid;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import javax.swing.JComponent;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import minesweeper.GameManager;
+import minesweeper.engine.Board;
+import minesweeper.engine.BoardDelta;
+import minesweeper.engine.BoardListener;
+import minesweeper.engine.BoardSpec;
+import minesweeper.engine.GameStatus;
+import minesweeper.gui.grid.TileAtlas.Tile;
+import minesweeper.util.GameFont;
+
+/**
+ * The {@code BoardCanvas} class draws a whole Minesweeper board with a single
+ * component. Instead of holding one {@link Cell} per board cell, it paints the
+ * cells that intersect the clip rectangle straight from the {@link Board}, so
+ * layout, memory and paint cost depend on the visible area rather than on the
+ * size of the board.
+ * <p>
+ * The canvas implements {@link Scrollable} and is meant to be placed in a
+ * {@link javax.swing.JScrollPane}; it scrolls one cell at a time and asks for
+ * a viewport no larger than {@link #MAX_VIEWPORT}. Mouse presses are mapped to
+ * cells arithmetically: a left-click reveals a cell, a right-click toggles
+ * its flag, a middle-click or left+right click on a revealed number chords,
+ * and a shift-drag reveals or flags every cell crossed. The canvas listens to
+ * its board and repaints the cells of each {@link BoardDelta} with a single
+ * request.
+ * </p>
+ *
+ * @see minesweeper.gui.grid.RenderMode#VIRTUAL
+ * @see minesweeper.gui.grid.GameGrid
+ * @see minesweeper.engine.Board
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public class BoardCanvas extends JComponent implements BoardView, BoardListener, Scrollable {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The largest viewport the canvas asks for when placed in a scroll pane.
+     */
+    public static final Dimension MAX_VIEWPORT = new Dimension(1200, 800);
+
+    /**
+     * The headless board drawn by this canvas.
+     */
+    private final Board board;
+
+    /**
+     * The number of rows on the board.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns on the board.
+     */
+    private final int cols;
+
+    /**
+     * The width and height of a cell, in pixels, including the one pixel gap
+     * between cells.
+     */
+    private final int cellSize;
+
+    /**
+     * The pre-rendered cell visuals, one tile per cell state.
+     */
+    private final TileAtlas atlas = new TileAtlas(
+            GameGrid.DEFAULT_CELL_COLOR, GameFont.RAINYHEARTS.getFont(Font.BOLD, 16f)
+    );
+
+    /**
+     * The single mouse listener of the canvas, which also tracks the cell
+     * under the mouse.
+     */
+    private GridMouseHandler mouse;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a new {@code BoardCanvas} for a fresh board described by the
+     * given specification.
+     *
+     * @param spec the {@link BoardSpec} of the board
+     * @param cellSize the width and height of a cell, in pixels
+     * @throws IllegalArgumentException if the board is too large to draw at
+     * the given cell size
+     */
+    public BoardCanvas(BoardSpec spec, int cellSize) {
+        this.board = spec.newBoard();
+        this.rows = spec.getRows();
+        this.cols = spec.getCols();
+        this.cellSize = cellSize;
+
+        setOpaque(true);
+        setPreferredSize(new Dimension(pixels(cols, cellSize), pixels(rows, cellSize)));
+        configMouseListener();
+        board.addBoardListener(this);
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the headless {@link Board} drawn by this canvas.
+     *
+     * @return the board backing this canvas
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Returns the linear index of the cell at the given point of the canvas.
+     *
+     * @param x the x-coordinate, in pixels
+     * @param y the y-coordinate, in pixels
+     * @return the linear index of the cell, or {@code -1} if the point lies
+     * outside the board
+     */
+    public int cellAt(int x, int y) {
+        if (x < 0 || y < 0) {
+            return -1;
+        }
+
+        int row = y / cellSize;
+        int col = x / cellSize;
+        return row < rows && col < cols ? row * cols + col : -1;
+    }
+
+    // ------------------------------ Setters ------------------------------- //
+    /**
+     * Sets the primary colour used for the cells and repaints the canvas.
+     *
+     * @param cellColor the new {@link Color} for the cells
+     */
+    @Override
+    public void setCellColor(Color cellColor) {
+        atlas.setCellColor(cellColor);
+        repaint();
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Paints the cells that intersect the clip rectangle, then the hover and
+     * drag highlights as a final pass. Cells outside the clip are never
+     * visited.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+
+        g.setColor(atlas.getCellColor().getDarker());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int r0 = Math.max(0, clip.y / cellSize);
+        int r1 = Math.min(rows - 1, (clip.y + clip.height - 1) / cellSize);
+        int c0 = Math.max(0, clip.x / cellSize);
+        int c1 = Math.min(cols - 1, (clip.x + clip.width - 1) / cellSize);
+
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                paintCell(g, r * cols + c, c * cellSize, r * cellSize);
+            }
+        }
+
+        paintHover(g);
+    }
+
+    /**
+     * Repaints the cells changed by a move and reports the end of the game.
+     * A losing move may have opened other cells before it reached a mine, so
+     * its changes are repainted as usual and every mine is repainted on top,
+     * since every mine is shown.
+     *
+     * @param delta the changes made by the move
+     */
+    @Override
+    public void boardChanged(BoardDelta delta) {
+        repaintCells(delta.getRevealed());
+        repaintCells(delta.getFlagged());
+
+        if (delta.getStatus() == GameStatus.LOST) {
+            repaintCells(board.getMineIndices());
+            GameManager.showGameOver(false);
+        } else if (delta.getStatus() == GameStatus.WON) {
+            GameManager.showGameOver(true);
+        }
+    }
+
+    /**
+     * Starts a new game on this canvas in place. The board is reset and
+     * reseeded and the canvas repainted; nothing else needs to change since
+     * the canvas draws straight from the board.
+     */
+    @Override
+    public void reset() {
+        board.reset();
+        repaint();
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension pref = getPreferredSize();
+        return new Dimension(
+                Math.min(pref.width, MAX_VIEWPORT.width / cellSize * cellSize),
+                Math.min(pref.height, MAX_VIEWPORT.height / cellSize * cellSize)
+        );
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return cellSize;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        return Math.max(cellSize, extent - cellSize);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Returns the length in pixels of a run of cells.
+     *
+     * @param cells the number of cells
+     * @param cellSize the size of a cell, in pixels
+     * @return the length of the run, in pixels
+     * @throws IllegalArgumentException if the length does not fit in an
+     * {@code int}
+     */
+    private static int pixels(int cells, int cellSize) {
+        long length = (long) cells * cellSize;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Board too large to draw at " + cellSize
+                    + " pixels a cell: " + cells + " cells");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Paints a single cell as one blit from the atlas. The cell occupies a
+     * square of {@code cellSize - 1} pixels, leaving a one pixel gap in the
+     * background colour, to match the look of the {@link GameGrid}.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     * @param index the linear index of the cell
+     * @param x the left edge of the cell, in pixels
+     * @param y the top edge of the cell, in pixels
+     */
+    private void paintCell(Graphics g, int index, int x, int y) {
+        atlas.paint(g, tileOf(index), x, y, cellSize - 1, cellSize - 1);
+    }
+
+    /**
+     * Returns the atlas tile matching the state of a cell. Once the game is
+     * lost every mine is shown.
+     *
+     * @param index the linear index of the cell
+     * @return the {@link Tile} to paint
+     */
+    private Tile tileOf(int index) {
+        if (board.isRevealed(index)) {
+            return board.hasMine(index) ? Tile.MINE : Tile.digit(board.getAdjacentMines(index));
+        }
+
+        if (board.getStatus() == GameStatus.LOST && board.hasMine(index)) {
+            return Tile.MINE;
+        }
+
+        return board.isFlagged(index) ? Tile.FLAGGED : Tile.RAISED;
+    }
+
+    /**
+     * Draws the highlight over the cells marked by a drag gesture and over the
+     * cell under the mouse, unless the game is over.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     */
+    private void paintHover(Graphics g) {
+        if (board.getStatus() != GameStatus.PLAYING) {
+            return;
+        }
+
+        for (int i = 0; i < mouse.getPathLength(); i++) {
+            paintHighlight(g, mouse.getPathCell(i));
+        }
+
+        int hover = mouse.getHover();
+        if (hover >= 0 && !mouse.isMarked(hover)) {
+            paintHighlight(g, hover);
+        }
+    }
+
+    /**
+     * Draws the highlight over a cell, unless it has been revealed or lies
+     * outside the clip.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     * @param index the linear index of the cell
+     */
+    private void paintHighlight(Graphics g, int index) {
+        int x = (index % cols) * cellSize;
+        int y = (index / cols) * cellSize;
+        if (!board.isRevealed(index) && g.hitClip(x, y, cellSize, cellSize)) {
+            atlas.paint(g, Tile.hover(board.isFlagged(index)), x, y, cellSize - 1, cellSize - 1);
+        }
+    }
+
+    /**
+     * Repaints the cell at the given linear index.
+     *
+     * @param index the linear index of the cell
+     */
+    private void repaintCell(int index) {
+        if (index >= 0) {
+            repaint((index % cols) * cellSize, (index / cols) * cellSize, cellSize, cellSize);
+        }
+    }
+
+    /**
+     * Repaints the given cells with a single request covering their bounding
+     * rectangle, so a cascade costs one repaint however many cells it opens.
+     *
+     * @param changed the linear indices of the cells to repaint
+     */
+    private void repaintCells(int[] changed) {
+        int r0 = rows, r1 = -1, c0 = cols, c1 = -1;
+        for (int i : changed) {
+            int r = i / cols;
+            int c = i - r * cols;
+            r0 = Math.min(r0, r);
+            r1 = Math.max(r1, r);
+            c0 = Math.min(c0, c);
+            c1 = Math.max(c1, c);
+        }
+
+        if (r1 >= 0) {
+            repaint(c0 * cellSize, r0 * cellSize, (c1 - c0 + 1) * cellSize, (r1 - r0 + 1) * cellSize);
+        }
+    }
+
+    /**
+     * Configures the {@link GridMouseHandler} that maps presses and hover
+     * movement to cells.
+     */
+    private void configMouseListener() {
+        mouse = GridMouseHandler.install(this, new GridMouseHandler.Target() {
+            @Override
+            public int cellAt(int x, int y) {
+                return BoardCanvas.this.cellAt(x, y);
+            }
+
+            @Override
+            public int getCols() {
+                return cols;
+            }
+
+            @Override
+            public void hoverChanged(int oldIndex, int newIndex) {
+                repaintCell(oldIndex);
+                repaintCell(newIndex);
+            }
+
+            @Override
+            public void cellPressed(int index, boolean rightClick) {
+                if (board.isRevealed(index)) {
+                    return;
+                }
+
+                if (rightClick) {
+                    board.toggleFlag(index);
+                } else {
+                    board.reveal(index);
+                }
+            }
+
+            @Override
+            public void cellChorded(int index) {
+                board.chord(index); // does nothing unless the cell is a satisfied number
+            }
+
+            @Override
+            public void cellsMarked(int[] marked) {
+                repaintCells(marked);
+            }
+
+            @Override
+            public void cellsDragged(int[] dragged, boolean flag) {
+                repaintCells(dragged); // merged with the board's own repaint
+                if (flag) {
+                    board.flagAll(dragged);
+                } else {
+                    board.revealAll(dragged);
+                }
+            }
+        });
+    }
+
+}
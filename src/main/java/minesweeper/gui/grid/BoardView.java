@@ -0,0 +1,37 @@
+package minesweeper.gui.grid;
+
+import java.awt.Color;
+import minesweeper.engine.Board;
+import minesweeper.engine.EndlessBoard;
+
+/**
+ * The {@code BoardView} interface is implemented by every component that
+ * displays a board and lets the player interact with it: a {@link Board} in
+ * either {@link RenderMode}, or an {@link EndlessBoard}.
+ *
+ * @see minesweeper.gui.grid.GameGrid
+ * @see minesweeper.gui.grid.BoardCanvas
+ * @see minesweeper.gui.grid.EndlessCanvas
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public interface BoardView {
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Sets the primary colour used to draw the cells of this view.
+     *
+     * @param cellColor the new {@link Color} for the cells
+     */
+    void setCellColor(Color cellColor);
+
+    /**
+     * Starts a new game on the same board in place: the board is reset and
+     * reseeded, and the view reuses its components instead of being rebuilt.
+     */
+    void reset();
+
+}
@@ -1,20 +1,8 @@
 package minesweeper.gui.grid;
 
-import static minesweeper.gui.grid.CellState.FLAGGED;
-
-import java.awt.Color;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Image;
-import javax.swing.BorderFactory;
 import javax.swing.JLabel;
-import javax.swing.border.BevelBorder;
-import javax.swing.border.Border;
-
-import minesweeper.util.GameColor;
-import static minesweeper.gui.grid.CellState.PRESSED;
-import minesweeper.util.GameIcon;
-import minesweeper.util.Palette;
+import minesweeper.gui.grid.TileAtlas.Tile;
 
 /**
  * The {@code Cell} class represents a single cell in a Minesweeper grid. It is
@@ -23,33 +11,36 @@ import minesweeper.util.Palette;
  * flagged, or pressed. When pressed, the cell can reveal whether it contains a
  * mine or a number indicating the count of neighbouring mines.
  * <p>
- * The class handles the visual representation and interactions of a cell,
- * including mouse events and state changes. It supports observer notification
- * to inform other components about state changes.
+ * The class handles the visual representation and state of a cell only. It
+ * has no mouse listeners or observers of its own: the grid holding it
+ * hit-tests the pointer, applies moves to the board, mirrors the board's
+ * changes onto its cells and draws the hover highlight over them itself.
+ * </p>
  * <p>
- * Each cell can have a unique colour, and its appearance changes based on its
- * state. For example, flagged cells have a different background colour and
- * border compared to blank or pressed cells.
+ * The cell does not use {@code setBackground}, {@code setBorder} or
+ * {@code setText}, each of which queues a repaint and, for borders and text, a
+ * revalidation. Instead it paints itself with a single blit from a
+ * {@link TileAtlas} shared by every cell of the grid. A state change is
+ * therefore silent until the cell, or the grid holding it, is repainted.
+ * </p>
  * <p>
  * Usage example:
  * <pre>
-     Cell cell = new Cell(new GameColor(Color.GRAY));
+     Cell cell = new Cell(atlas, 0);
      cell.setHasMine(true);
      cell.setState(CellState.PRESSED);
      cell.update();
  </pre>
+ * </p>
  * <p>
- * Note: This class relies on external classes like {@link minesweeper.util.GameColor},
- * {@link minesweeper.util.GameIcon}, and {@link minesweeper.util.Palette} for
- * colour management and icon handling.
+ * Note: This class relies on {@link TileAtlas} for all of its visuals,
+ * including colours and icons.
  * </p>
  *
  * @see javax.swing.JLabel
- * @see minesweeper.util.GameColor
- * @see minesweeper.util.GameIcon
- * @see minesweeper.util.Palette
+ * @see minesweeper.gui.grid.TileAtlas
  * @see minesweeper.gui.grid.CellState
- * @see minesweeper.gui.grid.CellObserver
+ * @see minesweeper.gui.grid.GameGrid
  *
  * @since 1.0
  * @version 1.0
@@ -59,46 +50,55 @@ import minesweeper.util.Palette;
 public class Cell extends JLabel {
 
     // ------------------------------ Fields -------------------------------- //
-    private Border borderDefault;
-    private Border borderPressed;
-    private Border borderFlagged;
+    /**
+     * The atlas holding the pre-rendered visuals of every cell state.
+     */
+    private final TileAtlas atlas;
 
-    private CellState state;
-    private GameColor gColor;
-    private GameColor altColor;
+    /**
+     * The neighbouring mine count shown on a pressed cell, or {@code 0} for
+     * none.
+     */
+    private int adjacentMines;
 
-    private CellObserver observer;
-    private Image flag = GameIcon.FLAG_16.getIcon().getImage();
+    private CellState state;
 
     private boolean hasMine;
 
+    private final int index;
+
     // --------------------------- Constructors ----------------------------- //
     /**
-     * Constructs a new {@code Cell} with the specified colour. This constructor
-     * initializes the cell with a default state and sets up the visual
-     * properties and event handling.
+     * Constructs a new {@code Cell} drawn from the given atlas for the board
+     * cell at the given linear index. This constructor initializes the cell
+     * with a default state and sets up its visual properties.
      *
-     * @param color the primary {@link GameColor} used for the cell's appearance
+     * @param atlas the {@link TileAtlas} the cell is painted from, usually
+     * shared by every cell of a grid
+     * @param index the linear index of the board cell this cell represents
      */
-    public Cell(GameColor color) {
-        this.gColor = color;
-        this.altColor = new GameColor(Palette.PRIMARY_1);
+    public Cell(TileAtlas atlas, int index) {
+        this.atlas = atlas;
+        this.index = index;
         this.state = CellState.DEFAULT;
         this.hasMine = false;
 
-        initBorders();
-
         setDoubleBuffered(true);
         setOpaque(true);
-        setHorizontalAlignment(CENTER);
-        setVerticalAlignment(CENTER);
-        setBorder(borderDefault);
-        setBackground(gColor.getColor());
-
-        addMouseListener(new CellMouseEventHandler(this));
     }
 
     // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the linear index of the board cell this cell represents. The
+     * index does not depend on the cell's pixel position, so it is valid
+     * before the grid has been laid out.
+     *
+     * @return the linear index of the cell
+     */
+    public int getIndex() {
+        return index;
+    }
+
     /**
      * Returns the current state of the cell.
      *
@@ -127,21 +127,21 @@ public class Cell extends JLabel {
     }
 
     /**
-     * Checks if the cell has an observer registered.
+     * Checks if the cell contains a mine.
      *
-     * @return {@code true} if the cell has an observer, {@code false} otherwise
+     * @return {@code true} if the cell has a mine, {@code false} otherwise
      */
-    public boolean hasObserver() {
-        return observer != null;
+    public boolean hasMine() {
+        return hasMine;
     }
 
     /**
-     * Checks if the cell contains a mine.
+     * Returns the neighbouring mine count shown on this cell once pressed.
      *
-     * @return {@code true} if the cell has a mine, {@code false} otherwise
+     * @return the neighbouring mine count, or {@code 0} if none is shown
      */
-    public boolean hasMine() {
-        return hasMine;
+    public int getAdjacentMines() {
+        return adjacentMines;
     }
 
     // ------------------------------ Setters ------------------------------- //
@@ -154,30 +154,6 @@ public class Cell extends JLabel {
         this.state = state;
     }
 
-    /**
-     * Registers an observer for this cell. The observer will be notified of
-     * state changes.
-     *
-     * @param observer the {@link CellObserver} to register
-     */
-    public void setObserver(CellObserver observer) {
-        this.observer = observer;
-    }
-
-    /**
-     * Sets the primary colour of the cell and updates its appearance
-     * accordingly.
-     *
-     * @param color the new {@link Color} for the cell
-     */
-    public void setColor(Color color) {
-        this.gColor = new GameColor(color);
-
-        setDefaultBorder(gColor);
-        setPressedBorder(gColor);
-        update(color, borderDefault);
-    }
-
     /**
      * Sets whether the cell contains a mine.
      *
@@ -188,155 +164,63 @@ public class Cell extends JLabel {
         this.hasMine = hasMine;
     }
 
-    // ---------------------------- API Methods ----------------------------- //
     /**
-     * Changes the background colour of the cell when the mouse hovers over it.
-     * This method updates the background colour based on the cell's current
-     * state. If the cell is in the default state, the background colour will
-     * switch between the default and highlight colours. If the cell is flagged,
-     * it switches between the alternate default and highlight colours.
+     * Sets the neighbouring mine count shown once the cell is pressed. A count
+     * of {@code 0} shows nothing.
      *
-     * @param mouseOver {@code true} if the mouse is hovering over the cell,
-     * {@code false} otherwise
+     * @param adjacentMines the neighbouring mine count
      */
-    public void triggerHover(boolean mouseOver) {
-        switch (state) {
-            case DEFAULT:
-                setBackground(mouseOver ? gColor.getHighlight() : gColor.getColor());
-                break;
-            case FLAGGED:
-                setBackground(mouseOver ? altColor.getHighlight() : altColor.getColor());
-                break;
-        }
+    public void setAdjacentMines(int adjacentMines) {
+        this.adjacentMines = adjacentMines;
     }
 
+    // ---------------------------- API Methods ----------------------------- //
     /**
-     * Notifies this cell's observer about a state change. This allows the
-     * observer to respond accordingly, such as updating the game logic or UI.
-     * If no observer has been registered, this method does nothing.
-     *
-     * @param rightClick {@code true} if the state change was triggered by a
-     * right-click, {@code false} otherwise
+     * Returns the cell to its initial, unpressed and unflagged state without
+     * repainting it, so it can be reused for a new game.
      */
-    public void notifyObserver(boolean rightClick) {
-        if (observer == null) {
-            return;
-        }
-
-        observer.notifyCellUpdate(this, rightClick);
+    public void reset() {
+        state = CellState.DEFAULT;
+        hasMine = false;
+        adjacentMines = 0;
     }
 
     /**
-     * Updates the visual representation of the cell based on its current state.
-     * This method should be called after the cell's state changes to refresh
-     * its appearance. The visual update includes changing the background colour
-     * and border style depending on whether the cell is in the default,
-     * pressed, or flagged state.
-     * <p>
-     * If the cell is pressed and contains a mine, the visual update for the
-     * pressed state is skipped.
-     * </p>
+     * Repaints the cell after its state has changed. When many cells change
+     * at once, repaint their common bounds once instead.
      */
     public void update() {
+        repaint();
+    }
+
+    /**
+     * Returns the atlas tile matching the cell's current state.
+     *
+     * @return the {@link Tile} to paint
+     */
+    public Tile getTile() {
         switch (state) {
             case DEFAULT:
-                update(gColor.getColor(), borderDefault);
-                break;
+                return Tile.RAISED;
             case PRESSED:
-                if (hasMine) {
-                    return; // skip pressed visual updates if mine
-                }
-                update(gColor.getColor(), borderPressed);
-                break;
+                return hasMine ? Tile.MINE : Tile.digit(adjacentMines);
             case FLAGGED:
-                update(altColor.getColor(), borderFlagged);
-                break;
+                return Tile.FLAGGED;
             default:
                 throw new IllegalStateException("Unknown state: " + state);
         }
-
-        repaint();
     }
 
     /**
-     * Paints the component, including any custom graphics. This method is
-     * overridden to provide custom rendering for the cell, such as displaying a
-     * mine icon if the cell contains a mine and is pressed, or a flag icon if
-     * the cell is flagged.
-     * <p>
-     * If the cell is flagged, a flag icon is drawn at the center of the cell.
-     * If the cell contains a mine and is pressed, a mine icon is rendered using
-     * the {@link Mine#paint} method.
-     * </p>
+     * Paints the cell as a single blit of the atlas tile matching its state.
+     * The tile includes the background, the border and any mine count, mine
+     * or flag icon.
      *
      * @param g the {@link Graphics} object used for drawing the component
      */
     @Override
     protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        
-        if (hasMine && isPressed()) {
-            Mine.paint(this, (Graphics2D) g);
-        } else if (isFlagged()) {
-            g.drawImage(flag, getWidth() / 2 - 8, getHeight() / 2 - 8, this);
-        }
-    }
-
-    // -------------------------- Helper Methods ---------------------------- //
-    /**
-     * Updates the cell's background colour and border based on the provided
-     * parameters.
-     *
-     * @param c the {@link Color} to set as the cell's background
-     * @param b the {@link Border} to set as the cell's border
-     */
-    private void update(Color c, Border b) {
-        setBackground(c);
-        setBorder(b);
-    }
-
-    /**
-     * Initializes the default, pressed, and flagged borders for the cell. This
-     * method sets up the visual styles for each state of the cell.
-     */
-    private void initBorders() {
-        setDefaultBorder(gColor);
-        setPressedBorder(gColor);
-        setFlaggedBorder(altColor);
-    }
-
-    /**
-     * Sets the default border for the cell, using a bevel border with a raised
-     * style. The border colours are derived from the provided {@link GameColor}.
-     *
-     * @param color the {@link GameColor} to use for the default border
-     */
-    private void setDefaultBorder(GameColor color) {
-        borderDefault = BorderFactory.createBevelBorder(
-                BevelBorder.RAISED, color.getBrighter(), color.getDarker()
-        );
-    }
-
-    /**
-     * Sets the flagged border for the cell, using a bevel border with a raised
-     * style. The border colours are derived from the provided {@link GameColor}.
-     *
-     * @param color the {@link GameColor} to use for the flagged border
-     */
-    private void setFlaggedBorder(GameColor color) {
-        borderFlagged = BorderFactory.createBevelBorder(
-                BevelBorder.RAISED, color.getBrighter(), color.getDarker()
-        );
-    }
-
-    /**
-     * Sets the pressed border for the cell, using a line border. The border
-     * colour is derived from the provided {@link GameColor}.
-     *
-     * @param color the {@link GameColor} to use for the pressed border
-     */
-    private void setPressedBorder(GameColor color) {
-        borderPressed = BorderFactory.createLineBorder(color.getDarker(), 1);
+        atlas.paint(g, getTile(), 0, 0, getWidth(), getHeight());
     }
 
-}
\ No newline at end of file
+}
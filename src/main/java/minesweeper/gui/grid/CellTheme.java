@@ -0,0 +1,145 @@
+package minesweeper.gui.grid;
+
+import java.awt.Color;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.swing.BorderFactory;
+import javax.swing.border.BevelBorder;
+import javax.swing.border.Border;
+import minesweeper.util.GameColor;
+import minesweeper.util.Palette;
+
+/**
+ * The {@code CellTheme} class holds the colours and borders used to draw
+ * cells of a given colour. Themes are immutable flyweights: {@link #of(Color)}
+ * hands out one shared instance per colour, so retheming a board allocates
+ * nothing once a colour has been seen, however many cells it has.
+ * <p>
+ * Usage example:
+ * <pre>
+ * CellTheme theme = CellTheme.of(Palette.PRIMARY_3);
+ * theme.getRaisedBorder().paintBorder(null, g, 0, 0, width, height);
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.gui.grid.TileAtlas
+ * @see minesweeper.util.GameColor
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class CellTheme {
+
+    // ---------------------------- Constants ------------------------------- //
+    /**
+     * The colour of flagged cells, shared by every theme.
+     */
+    private static final GameColor FLAG_COLOR = new GameColor(Palette.PRIMARY_1);
+
+    /**
+     * The raised border of flagged cells, shared by every theme.
+     */
+    private static final Border FLAGGED_BORDER = createBevel(FLAG_COLOR);
+
+    /**
+     * The themes created so far, keyed by cell colour.
+     */
+    private static final Map<Color, CellTheme> CACHE = new ConcurrentHashMap<>();
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The colour of hidden and pressed cells.
+     */
+    private final GameColor cellColor;
+
+    /**
+     * The raised border of hidden cells.
+     */
+    private final Border raisedBorder;
+
+    /**
+     * The lowered border of pressed cells.
+     */
+    private final Border pressedBorder;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs the theme for the given cell colour. Use {@link #of(Color)}
+     * to obtain a shared instance.
+     *
+     * @param color the colour of hidden and pressed cells
+     */
+    private CellTheme(Color color) {
+        this.cellColor = new GameColor(color);
+        this.raisedBorder = createBevel(cellColor);
+        this.pressedBorder = BorderFactory.createLineBorder(cellColor.getDarker(), 1);
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the shared theme for the given cell colour, creating it the
+     * first time the colour is seen.
+     *
+     * @param color the colour of hidden and pressed cells
+     * @return the shared {@code CellTheme} for the colour
+     */
+    public static CellTheme of(Color color) {
+        return CACHE.computeIfAbsent(color, CellTheme::new);
+    }
+
+    /**
+     * Returns the colour of hidden and pressed cells.
+     *
+     * @return the cell {@link GameColor}
+     */
+    public GameColor getCellColor() {
+        return cellColor;
+    }
+
+    /**
+     * Returns the colour of flagged cells.
+     *
+     * @return the flag {@link GameColor}
+     */
+    public GameColor getFlagColor() {
+        return FLAG_COLOR;
+    }
+
+    /**
+     * Returns the raised border of hidden cells.
+     *
+     * @return the raised {@link Border}
+     */
+    public Border getRaisedBorder() {
+        return raisedBorder;
+    }
+
+    /**
+     * Returns the raised border of flagged cells.
+     *
+     * @return the flagged {@link Border}
+     */
+    public Border getFlaggedBorder() {
+        return FLAGGED_BORDER;
+    }
+
+    /**
+     * Returns the line border of pressed cells.
+     *
+     * @return the pressed {@link Border}
+     */
+    public Border getPressedBorder() {
+        return pressedBorder;
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Creates a raised bevel border from the given colour.
+     */
+    private static Border createBevel(GameColor color) {
+        return BorderFactory.createBevelBorder(BevelBorder.RAISED, color.getBrighter(), color.getDarker());
+    }
+
+}
@@ -1,5 +1,7 @@
 package minesweeper.gui.grid;
 
+import minesweeper.engine.BoardSpec;
+
 /**
  * The {@code Difficulty} enum represents the different difficulty levels
  * available in the Minesweeper game. Each difficulty level specifies the size
@@ -17,10 +19,12 @@ package minesweeper.gui.grid;
  * </p>
  * <p>
  * The {@code Difficulty} enum provides methods to retrieve the number of rows,
- * columns, and mines for each level.
+ * columns, and mines for each level. Boards of any other size are described
+ * with a {@link BoardSpec}, which each level can also be converted to.
  * </p>
  *
  * @see minesweeper.gui.grid.Cell
+ * @see minesweeper.engine.BoardSpec
  *
  * @since 1.0
  * @version 1.0
@@ -89,4 +93,14 @@ public enum Difficulty {
         return mines;
     }
 
+    /**
+     * Returns the {@link BoardSpec} describing a board of this difficulty
+     * level.
+     *
+     * @return the board specification for this level
+     */
+    public BoardSpec getSpec() {
+        return BoardSpec.of(rows, cols, mines);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,474 @@
+package minesweeper.gui.grid;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import javax.swing.AbstractAction;
+import javax.swing.JComponent;
+import javax.swing.KeyStroke;
+import minesweeper.GameManager;
+import minesweeper.engine.EndlessBoard;
+import minesweeper.engine.EndlessBoardListener;
+import minesweeper.engine.GameStatus;
+import minesweeper.gui.grid.TileAtlas.Tile;
+import minesweeper.util.GameFont;
+
+/**
+ * The {@code EndlessCanvas} class draws an {@link EndlessBoard} with a single
+ * component, the way {@link BoardCanvas} draws a finite board: only the cells
+ * that intersect the clip rectangle are painted, straight from the board.
+ * <p>
+ * The canvas is a window onto the board rather than a view of all of it. The
+ * mouse wheel, shift plus the mouse wheel and the arrow keys pan the window,
+ * and every paint first materialises the chunks under the clip, so chunks are
+ * created as the viewport reaches them and evicted once it moves on. A new
+ * game opens the safe cell at the origin, in the centre of the window.
+ * </p>
+ * <p>
+ * Cells are handed to the {@link GridMouseHandler} by their linear index
+ * within the window, which the canvas maps back to world coordinates. Presses,
+ * chords and drag gestures work as on the other views; panning is ignored
+ * while a drag gesture is in progress, so its path stays in place.
+ * </p>
+ *
+ * @see minesweeper.engine.EndlessBoard
+ * @see minesweeper.gui.grid.BoardCanvas
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public class EndlessCanvas extends JComponent implements BoardView, EndlessBoardListener {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The number of chunks the board keeps in full: enough for any window
+     * plus the chunks a cascade spreads into.
+     */
+    public static final int HOT_CHUNKS = 64;
+
+    /**
+     * The number of columns and rows the canvas asks for.
+     */
+    private static final int PREFERRED_COLS = 40, PREFERRED_ROWS = 24;
+
+    /**
+     * The number of cells panned by one notch of the mouse wheel.
+     */
+    private static final int WHEEL_CELLS = 3;
+
+    /**
+     * The fraction of cells containing a mine.
+     */
+    private final double density;
+
+    /**
+     * The width and height of a cell, in pixels, including the one pixel gap
+     * between cells.
+     */
+    private final int cellSize;
+
+    /**
+     * The board drawn by this canvas. A new game replaces it.
+     */
+    private EndlessBoard board;
+
+    /**
+     * The world coordinates of the cell in the top left corner of the window.
+     */
+    private int originX, originY;
+
+    /**
+     * The pre-rendered cell visuals, one tile per cell state.
+     */
+    private final TileAtlas atlas = new TileAtlas(
+            GameGrid.DEFAULT_CELL_COLOR, GameFont.RAINYHEARTS.getFont(Font.BOLD, 16f)
+    );
+
+    /**
+     * The single mouse listener of the canvas, which also tracks the cell
+     * under the mouse.
+     */
+    private GridMouseHandler mouse;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a new {@code EndlessCanvas} on a fresh endless board with a
+     * random seed.
+     *
+     * @param density the fraction of cells containing a mine, between
+     * {@link EndlessBoard#MIN_DENSITY} and {@link EndlessBoard#MAX_DENSITY}
+     * @param cellSize the width and height of a cell, in pixels
+     * @throws IllegalArgumentException if the density is out of range
+     */
+    public EndlessCanvas(double density, int cellSize) {
+        this.density = density;
+        this.cellSize = cellSize;
+
+        setOpaque(true);
+        setPreferredSize(new Dimension(PREFERRED_COLS * cellSize, PREFERRED_ROWS * cellSize));
+        configMouseListener();
+        configPanning();
+        newBoard();
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the endless board drawn by this canvas.
+     *
+     * @return the board backing this canvas
+     */
+    public EndlessBoard getBoard() {
+        return board;
+    }
+
+    // ------------------------------ Setters ------------------------------- //
+    /**
+     * Sets the primary colour used for the cells and repaints the canvas.
+     *
+     * @param cellColor the new {@link Color} for the cells
+     */
+    @Override
+    public void setCellColor(Color cellColor) {
+        atlas.setCellColor(cellColor);
+        repaint();
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Materialises the chunks under the clip rectangle, then paints the cells
+     * that intersect it and the hover and drag highlights.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+
+        g.setColor(atlas.getCellColor().getDarker());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int r0 = Math.max(0, clip.y / cellSize);
+        int r1 = (clip.y + clip.height - 1) / cellSize;
+        int c0 = Math.max(0, clip.x / cellSize);
+        int c1 = (clip.x + clip.width - 1) / cellSize;
+        if (r1 < r0 || c1 < c0) {
+            return;
+        }
+
+        board.materialise(originX + c0, originY + r0, originX + c1, originY + r1);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                atlas.paint(g, tileOf(originX + c, originY + r), c * cellSize, r * cellSize,
+                        cellSize - 1, cellSize - 1);
+            }
+        }
+
+        paintHover(g);
+    }
+
+    /**
+     * Repaints the visible cells changed by a move and reports the end of the
+     * game. Once the game is lost every visible mine is shown, so the whole
+     * window is repainted.
+     *
+     * @param changed the packed coordinates of the changed cells
+     * @param status the status of the game after the move
+     */
+    @Override
+    public void boardChanged(long[] changed, GameStatus status) {
+        if (status == GameStatus.LOST) {
+            repaint();
+            GameManager.showGameOver(false);
+            return;
+        }
+
+        // Bounds in window cells, clamped so distant cells cannot overflow
+        int cols = getCols(), rows = getRows();
+        int c0 = cols, c1 = -1, r0 = rows, r1 = -1;
+        for (long cell : changed) {
+            long c = (long) EndlessBoard.xOf(cell) - originX;
+            long r = (long) EndlessBoard.yOf(cell) - originY;
+            if (c >= 0 && c < cols && r >= 0 && r < rows) {
+                c0 = Math.min(c0, (int) c);
+                c1 = Math.max(c1, (int) c);
+                r0 = Math.min(r0, (int) r);
+                r1 = Math.max(r1, (int) r);
+            }
+        }
+
+        if (r1 >= 0) {
+            repaint(c0 * cellSize, r0 * cellSize, (c1 - c0 + 1) * cellSize, (r1 - r0 + 1) * cellSize);
+        }
+    }
+
+    /**
+     * Starts a new endless game with a new random seed and recentres the
+     * window on the origin.
+     */
+    @Override
+    public void reset() {
+        board.removeBoardListener(this);
+        newBoard();
+        repaint();
+    }
+
+    /**
+     * Moves the window over the board by the given number of cells. Does
+     * nothing while a drag gesture is in progress.
+     *
+     * @param dx the number of columns to move right, or left if negative
+     * @param dy the number of rows to move down, or up if negative
+     */
+    public void pan(int dx, int dy) {
+        if (mouse.isDragging() || (dx == 0 && dy == 0)) {
+            return;
+        }
+
+        originX += dx;
+        originY += dy;
+        repaint();
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Replaces the board with a fresh one, centres the window on the origin
+     * and opens the origin, which is always safe.
+     */
+    private void newBoard() {
+        board = new EndlessBoard(current().nextLong(), density, HOT_CHUNKS);
+        board.addBoardListener(this);
+
+        Dimension size = getWidth() > 0 ? getSize() : getPreferredSize();
+        originX = -(size.width / cellSize) / 2;
+        originY = -(size.height / cellSize) / 2;
+        board.reveal(0, 0);
+    }
+
+    /**
+     * Returns the number of columns in the window, counting a partly visible
+     * last column.
+     *
+     * @return the number of columns
+     */
+    private int getCols() {
+        return (Math.max(getWidth(), 1) + cellSize - 1) / cellSize;
+    }
+
+    /**
+     * Returns the number of rows in the window, counting a partly visible
+     * last row.
+     *
+     * @return the number of rows
+     */
+    private int getRows() {
+        return (Math.max(getHeight(), 1) + cellSize - 1) / cellSize;
+    }
+
+    /**
+     * Returns the linear index, within the window, of the cell at the given
+     * point of the canvas.
+     *
+     * @param x the x-coordinate, in pixels
+     * @param y the y-coordinate, in pixels
+     * @return the window index of the cell, or {@code -1} if the point lies
+     * outside the canvas
+     */
+    private int cellAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= getWidth() || y >= getHeight()) {
+            return -1;
+        }
+        return (y / cellSize) * getCols() + x / cellSize;
+    }
+
+    /**
+     * Returns the atlas tile matching the state of a cell. Once the game is
+     * lost every mine is shown.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the {@link Tile} to paint
+     */
+    private Tile tileOf(int x, int y) {
+        if (board.isRevealed(x, y)) {
+            return board.hasMine(x, y) ? Tile.MINE : Tile.digit(board.getAdjacentMines(x, y));
+        }
+
+        if (board.getStatus() == GameStatus.LOST && board.hasMine(x, y)) {
+            return Tile.MINE;
+        }
+
+        return board.isFlagged(x, y) ? Tile.FLAGGED : Tile.RAISED;
+    }
+
+    /**
+     * Draws the highlight over the cells marked by a drag gesture and over the
+     * cell under the mouse, unless the game is over.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     */
+    private void paintHover(Graphics g) {
+        if (board.getStatus() != GameStatus.PLAYING) {
+            return;
+        }
+
+        for (int i = 0; i < mouse.getPathLength(); i++) {
+            paintHighlight(g, mouse.getPathCell(i));
+        }
+
+        int hover = mouse.getHover();
+        if (hover >= 0 && !mouse.isMarked(hover)) {
+            paintHighlight(g, hover);
+        }
+    }
+
+    /**
+     * Draws the highlight over a cell, unless it has been revealed or lies
+     * outside the clip.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     * @param index the window index of the cell
+     */
+    private void paintHighlight(Graphics g, int index) {
+        int cols = getCols();
+        int x = (index % cols) * cellSize;
+        int y = (index / cols) * cellSize;
+        int wx = originX + index % cols, wy = originY + index / cols;
+        if (!board.isRevealed(wx, wy) && g.hitClip(x, y, cellSize, cellSize)) {
+            atlas.paint(g, Tile.hover(board.isFlagged(wx, wy)), x, y, cellSize - 1, cellSize - 1);
+        }
+    }
+
+    /**
+     * Repaints the given cells of the window with a single request covering
+     * their bounding rectangle.
+     *
+     * @param cells the window indices of the cells to repaint
+     */
+    private void repaintCells(int... cells) {
+        int cols = getCols();
+        int r0 = Integer.MAX_VALUE, r1 = -1, c0 = Integer.MAX_VALUE, c1 = -1;
+        for (int i : cells) {
+            if (i < 0) {
+                continue;
+            }
+
+            r0 = Math.min(r0, i / cols);
+            r1 = Math.max(r1, i / cols);
+            c0 = Math.min(c0, i % cols);
+            c1 = Math.max(c1, i % cols);
+        }
+
+        if (r1 >= 0) {
+            repaint(c0 * cellSize, r0 * cellSize, (c1 - c0 + 1) * cellSize, (r1 - r0 + 1) * cellSize);
+        }
+    }
+
+    /**
+     * Configures the {@link GridMouseHandler} that maps presses and hover
+     * movement to cells. Window indices are mapped to world coordinates when
+     * a move is made.
+     */
+    private void configMouseListener() {
+        mouse = GridMouseHandler.install(this, new GridMouseHandler.Target() {
+            @Override
+            public int cellAt(int x, int y) {
+                return EndlessCanvas.this.cellAt(x, y);
+            }
+
+            @Override
+            public int getCols() {
+                return EndlessCanvas.this.getCols();
+            }
+
+            @Override
+            public void hoverChanged(int oldIndex, int newIndex) {
+                repaintCells(oldIndex);
+                repaintCells(newIndex);
+            }
+
+            @Override
+            public void cellPressed(int index, boolean rightClick) {
+                int cols = getCols();
+                int x = originX + index % cols, y = originY + index / cols;
+                if (rightClick) {
+                    board.toggleFlag(x, y);
+                } else {
+                    board.reveal(x, y);
+                }
+            }
+
+            @Override
+            public void cellChorded(int index) {
+                int cols = getCols();
+                board.chord(originX + index % cols, originY + index / cols);
+            }
+
+            @Override
+            public void cellsMarked(int[] marked) {
+                repaintCells(marked);
+            }
+
+            @Override
+            public void cellsDragged(int[] dragged, boolean flag) {
+                repaintCells(dragged);
+                int cols = getCols();
+                for (int i : dragged) {
+                    int x = originX + i % cols, y = originY + i / cols;
+                    if (board.getStatus().isOver()) {
+                        break;
+                    } else if (board.isRevealed(x, y) || board.isFlagged(x, y)) {
+                        continue; // flags are kept, as on a finite board
+                    }
+
+                    if (flag) {
+                        board.toggleFlag(x, y);
+                    } else {
+                        board.reveal(x, y);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Pans the window with the mouse wheel, horizontally while shift is held,
+     * and with the arrow keys while the canvas's window is focused.
+     */
+    private void configPanning() {
+        addMouseWheelListener(ev -> {
+            int cells = ev.getWheelRotation() * WHEEL_CELLS;
+            if (ev.isShiftDown()) {
+                pan(cells, 0);
+            } else {
+                pan(0, cells);
+            }
+        });
+
+        int[][] arrows = {
+            {KeyEvent.VK_LEFT, -1, 0}, {KeyEvent.VK_RIGHT, 1, 0},
+            {KeyEvent.VK_UP, 0, -1}, {KeyEvent.VK_DOWN, 0, 1}
+        };
+        for (int[] arrow : arrows) {
+            String name = "pan " + KeyEvent.getKeyText(arrow[0]);
+            getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(arrow[0], 0), name);
+            getActionMap().put(name, new AbstractAction() {
+                @Override
+                public void actionPerformed(ActionEvent ev) {
+                    pan(arrow[1], arrow[2]);
+                }
+            });
+        }
+    }
+
+}
@@ -2,37 +2,46 @@ package minesweeper.gui.grid;
 
 import java.awt.Color;
 import java.awt.Font;
+import java.awt.Graphics;
 import java.awt.GridLayout;
-import java.awt.event.ComponentAdapter;
-import java.awt.event.ComponentEvent;
-import java.util.ArrayList;
-import java.util.List;
-import static java.util.concurrent.ThreadLocalRandom.current;
+import java.awt.Rectangle;
 import javax.swing.JPanel;
 import minesweeper.GameManager;
-import minesweeper.util.GameColor;
+import minesweeper.engine.Board;
+import minesweeper.engine.BoardDelta;
+import minesweeper.engine.BoardListener;
+import minesweeper.engine.BoardSpec;
+import minesweeper.engine.GameStatus;
+import minesweeper.gui.grid.TileAtlas.Tile;
 import minesweeper.util.GameFont;
 import minesweeper.util.Palette;
 
 /**
  * The {@code GameGrid} class represents the Minesweeper game grid and manages
  * the cells within it. This class extends {@link JPanel} and implements
- * {@link CellObserver} to handle cell updates and interactions.
+ * {@link BoardListener} to mirror the changes of each move onto its cells. It
+ * is the {@link BoardView} used in {@link RenderMode#COMPONENTS} mode.
  * <p>
- * The grid is initialised based on a specified {@link Difficulty} level,
- * determining the number of rows, columns, and mines. The {@code GameGrid}
- * handles user interactions, including cell clicks and flagging, and updates
- * the game state accordingly.
+ * The grid is initialised based on a specified {@link Difficulty} level or
+ * {@link BoardSpec}, determining the number of rows, columns, and mines. The
+ * game rules themselves live in a headless {@link Board}; the
+ * {@code GameGrid} is a thin view that forwards user interactions to the board
+ * and mirrors the board's state onto its cells, one {@link BoardDelta} per
+ * move.
  * </p>
  * <p>
  * Key responsibilities of the {@code GameGrid} include:
  * <ul>
  * <li>Initialising the grid of {@link Cell} objects based on the difficulty
  * level.</li>
- * <li>Handling user interactions, such as clicks and flags, and updating the
- * cell states.</li>
- * <li>Managing game logic, including mine placement and determining win/loss
- * conditions.</li>
+ * <li>Forwarding clicks, flags, chords and drag gestures to the
+ * {@link Board}.</li>
+ * <li>Tracking the mouse with a single {@link GridMouseHandler}, which maps
+ * pointer coordinates to cells arithmetically; the cells themselves have no
+ * listeners.</li>
+ * <li>Drawing the hover highlight in a final pass over the cells, so moving
+ * the mouse repaints only the cell it left and the cell it entered.</li>
+ * <li>Updating the cell visuals and reporting win/loss conditions.</li>
  * </ul>
  * </p>
  * <p>
@@ -41,8 +50,9 @@ import minesweeper.util.Palette;
  * </p>
  *
  * @see minesweeper.gui.grid.Cell
- * @see minesweeper.gui.grid.CellObserver
+ * @see minesweeper.engine.BoardListener
  * @see minesweeper.gui.grid.Difficulty
+ * @see minesweeper.engine.Board
  * @see javax.swing.JPanel
  *
  * @since 1.0
@@ -50,7 +60,7 @@ import minesweeper.util.Palette;
  *
  * @author Kheagen Haskins
  */
-public class GameGrid extends JPanel implements CellObserver {
+public class GameGrid extends JPanel implements BoardView, BoardListener {
 
 // ------------------------------ Fields -------------------------------- //
     /**
@@ -59,6 +69,12 @@ public class GameGrid extends JPanel implements CellObserver {
      */
     public static final Color DEFAULT_CELL_COLOR = Palette.PRIMARY_3;
 
+    /**
+     * The gap between neighbouring cells, in pixels, in which the grid's
+     * background shows through.
+     */
+    private static final int GAP = 1;
+
     /**
      * The number of rows in the game grid, determined by the selected
      * difficulty.
@@ -72,59 +88,32 @@ public class GameGrid extends JPanel implements CellObserver {
     private final int cols;
 
     /**
-     * The total number of mines in the game grid, determined by the selected
-     * difficulty.
-     */
-    private final int mineCount;
-
-    /**
-     * The current number of flagged cells in the game grid.
-     */
-    private int flagCount;
-
-    /**
-     * The current number of pressed cells in the game grid. Initially set to 0.
-     */
-    private int pressedCount = 0;
-
-    /**
-     * A flag indicating whether the first cell click has occurred. Used to
-     * ensure the first click does not result in a loss.
-     */
-    private boolean firstClick = false;
-
-    /**
-     * The cached width of a cell. Used for performance optimisation in
-     * rendering.
+     * The headless board holding the game rules and state displayed by this
+     * grid.
      */
-    private int cw;
+    private final Board board;
 
     /**
-     * The cached height of a cell. Used for performance optimisation in
-     * rendering.
-     */
-    private int ch;
-
-    /**
-     * A flag indicating whether the cache values (cw, ch) are valid.
+     * The font used for displaying numbers and other text in the cells.
      */
-    private boolean cacheValid = false;
+    private Font font = GameFont.RAINYHEARTS.getFont(Font.BOLD, 16f);
 
     /**
-     * The primary colour used for cells in the grid, initially set to
-     * {@link #DEFAULT_CELL_COLOR}.
+     * The pre-rendered cell visuals shared by every cell of the grid,
+     * initially drawn in {@link #DEFAULT_CELL_COLOR}.
      */
-    private GameColor cellColor = new GameColor(DEFAULT_CELL_COLOR);
+    private final TileAtlas atlas = new TileAtlas(DEFAULT_CELL_COLOR, font);
 
     /**
-     * The font used for displaying numbers and other text in the cells.
+     * The cells of the game, indexed by their linear board index.
      */
-    private Font font = GameFont.RAINYHEARTS.getFont().deriveFont(Font.BOLD, 16f);
+    private Cell[] cells;
 
     /**
-     * The 2D array representing the grid of cells in the game.
+     * The single mouse listener of the grid, which also tracks the cell under
+     * the mouse.
      */
-    private Cell[][] grid;
+    private GridMouseHandler mouse;
 
 // --------------------------- Constructors ----------------------------- //
     /**
@@ -137,17 +126,31 @@ public class GameGrid extends JPanel implements CellObserver {
      * size and mine count
      */
     public GameGrid(Difficulty difficulty) {
+        this(difficulty.getSpec());
+    }
+
+    /**
+     * Constructs a new {@code GameGrid} for a board of any size described by
+     * the given {@link BoardSpec}. Initialises the grid with the specified
+     * number of rows, columns, and mines, and sets up the layout and visual
+     * properties.
+     *
+     * @param spec the {@link BoardSpec} describing the grid size and mine
+     * count
+     */
+    public GameGrid(BoardSpec spec) {
         super(true);
         
-        rows = difficulty.getRows();
-        cols = difficulty.getCols();
-        mineCount = difficulty.getMines();
+        rows = spec.getRows();
+        cols = spec.getCols();
+        board = spec.newBoard();
 
-        setLayout(new GridLayout(rows, cols, 1, 1));
-        setBackground(cellColor.getDarker());
-        configComponentListener();
+        setLayout(new GridLayout(rows, cols, GAP, GAP));
+        setBackground(atlas.getCellColor().getDarker());
 
         initCells();
+        configMouseListener();
+        board.addBoardListener(this);
     }
 
 // ------------------------------ Getters ------------------------------- //
@@ -169,13 +172,22 @@ public class GameGrid extends JPanel implements CellObserver {
         return cols;
     }
 
+    /**
+     * Returns the headless {@link Board} displayed by this grid.
+     *
+     * @return the board backing this grid
+     */
+    public Board getBoard() {
+        return board;
+    }
+
     /**
      * Returns the current number of flagged cells in the game grid.
      *
      * @return the number of flagged cells
      */
     public int getFlagCount() {
-        return flagCount;
+        return board.getFlagCount();
     }
 
     /**
@@ -184,256 +196,349 @@ public class GameGrid extends JPanel implements CellObserver {
      * @return the number of pressed cells
      */
     public int getPressedCount() {
-        return pressedCount;
+        return board.getRevealedCount();
+    }
+
+    /**
+     * Returns the linear index of the cell at the given point of the grid.
+     * The index is computed from the grid's size the same way
+     * {@link GridLayout} sizes and centres its cells, so no component is
+     * searched.
+     *
+     * @param x the x-coordinate, in pixels
+     * @param y the y-coordinate, in pixels
+     * @return the linear index of the cell, or {@code -1} if the point lies
+     * in a gap or outside the grid
+     */
+    public int cellAt(int x, int y) {
+        int col = slotAt(x, getWidth(), cols);
+        int row = slotAt(y, getHeight(), rows);
+        return col < 0 || row < 0 ? -1 : row * cols + col;
     }
 // ------------------------------ Setters ------------------------------- //
 
     /**
      * Sets the primary colour for all cells in the game grid. This method
-     * updates the colour of each cell in the grid and changes the background
+     * switches the shared {@link TileAtlas} to the {@link CellTheme} of the
+     * colour once, rather than touching every cell, and changes the background
      * colour of the grid to a darker shade of the provided colour.
      *
      * @param cellColor the new {@link Color} to set for the cells
      */
+    @Override
     public void setCellColor(Color cellColor) {
-        this.cellColor = new GameColor(cellColor);
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                grid[i][j].setColor(cellColor);
-            }
-        }
-
-        setBackground(this.cellColor.getDarker());
+        atlas.setCellColor(cellColor);
+        setBackground(atlas.getCellColor().getDarker());
+        repaint();
     }
 
 // ---------------------------- API Methods ----------------------------- //
     /**
-     * Notifies the {@code GameGrid} of a cell state update. This method is
-     * called when a cell's state changes, such as being clicked or flagged. It
-     * handles the game logic associated with the cell's state change, including
-     * mine placement on the first click, updating flag counts, and checking for
-     * game over conditions.
-     * <p>
-     * If the cell is being flagged or unflagged, the flag count is updated
-     * accordingly. If a cell is pressed and contains a mine, the game ends. If
-     * the correct number of non-mine cells are pressed, the game is won.
-     * </p>
+     * Mirrors the changes made by a move onto the cells and reports any game
+     * over condition. The revealed and toggled cells are brought in line with
+     * the board and repainted with a single request covering their merged
+     * bounds. Losing the game shows every mine; winning it shows the game
+     * over message straight away.
      *
-     * @param cell the {@link Cell} that has been updated
-     * @param rightClick {@code true} if the state change was triggered by a
-     * right-click, {@code false} otherwise
+     * @param delta the changes made by the move
      */
     @Override
-    public void notifyCellUpdate(Cell cell, boolean rightClick) {
-        int preFlagCount = flagCount; // flagCount pre-update
-
-        if (!firstClick) { // ensure user cannot lose with one click
-            initMines(cell);
-            firstClick = true;
+    public void boardChanged(BoardDelta delta) {
+        Rectangle dirty = syncCells(null, delta.getRevealed());
+        dirty = syncCells(dirty, delta.getFlagged());
+        if (dirty != null) {
+            repaint(dirty); // through the grid, keeping any hover
         }
 
-        if (rightClick) {
-            cell.setState(cell.isFlagged() ? CellState.DEFAULT : CellState.FLAGGED);
-            enforceFlagCounter(cell);
-            cell.update();
-            return; // exits method
-        }
-
-        // Handling a left click
-        floodFill(cell);
-        if (cell.hasMine()) {
+        if (delta.getStatus() == GameStatus.LOST) {
             handleMineClicked();
-        } else if (pressedCount == (rows * cols) - mineCount) {
+        } else if (delta.getStatus() == GameStatus.WON) {
             GameManager.showGameOver(true);
         } // Checks if game is won
     }
 
-    // -------------------------- Helper Methods ---------------------------- //
     /**
-     * Toggles and updates the state of empty cells. If a cell is not pressed or
-     * flagged, this method recursively updates neighbouring cells. It also
-     * updates the visual representation of the cell based on the number of
-     * neighbouring mines.
-     *
-     * @param cell the {@link Cell} to update
+     * Starts a new game on this grid in place. The board is reset and
+     * reseeded and every existing {@link Cell} is returned to its initial
+     * state, so no components, listeners or fonts are created and no layout
+     * pass is needed; the grid is simply repainted.
      */
-    private void floodFill(Cell cell) {
-        if (cell.isPressed()) {
-            return; // prevent infinite recursion
+    @Override
+    public void reset() {
+        board.reset();
+        for (Cell cell : cells) {
+            cell.reset();
         }
 
-        if (cell.isFlagged()) {
-            flagCount++;
-        }
+        repaint();
+    }
 
-        if (cell.hasMine()) {
-            cell.update();
+    /**
+     * Paints the cells, then draws the highlight over the cell under the mouse
+     * and the cells marked by a drag gesture as a final pass. Revealed cells
+     * are not highlighted, and nothing is once the game is over.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     */
+    @Override
+    protected void paintChildren(Graphics g) {
+        super.paintChildren(g);
+
+        if (board.getStatus() != GameStatus.PLAYING) {
             return;
         }
 
-        cell.setState(CellState.PRESSED);
-        pressedCount++;
-
-        Cell[] neighbours = getNeighboursOf(cell);
-        int mCount = countMines(neighbours);
-        if (mCount == 0) {
-            for (Cell neighbour : neighbours) {
-                floodFill(neighbour); // recurses here
-            }
-        } else {
-            cell.setText(String.valueOf(mCount));
+        Rectangle clip = g.getClipBounds();
+        for (int i = 0; i < mouse.getPathLength(); i++) {
+            paintHighlight(g, clip, mouse.getPathCell(i));
         }
 
-        cell.update();
+        int hover = mouse.getHover();
+        if (hover >= 0 && !mouse.isMarked(hover)) {
+            paintHighlight(g, clip, hover);
+        }
     }
 
+    // -------------------------- Helper Methods ---------------------------- //
     /**
-     * Counts the number of mines in the given array of cells.
+     * Draws the highlight over a cell, unless it has been revealed or lies
+     * outside the clip.
      *
-     * @param cells an array of {@link Cell} objects
-     * @return the number of mines found in the provided cells
+     * @param g the {@link Graphics} object used for drawing
+     * @param clip the clip bounds, or {@code null} for none
+     * @param index the linear index of the cell
      */
-    private int countMines(Cell[] cells) {
-        int m = 0; // mine count
-        for (Cell nCell : cells) {
-            if (nCell.hasMine()) {
-                m++;
-            }
+    private void paintHighlight(Graphics g, Rectangle clip, int index) {
+        Cell cell = cells[index];
+        Rectangle bounds = cell.getBounds();
+        if (!cell.isPressed() && (clip == null || clip.intersects(bounds))) {
+            atlas.paint(g, Tile.hover(cell.isFlagged()), bounds.x, bounds.y, bounds.width, bounds.height);
         }
-        return m;
     }
 
     /**
-     * Initialises mines in the grid, ensuring that the first clicked cell does
-     * not contain a mine. Mines are randomly placed throughout the grid.
+     * Repaints the given cells with a single request covering their merged
+     * bounds.
      *
-     * @param cell the {@link Cell} that was first clicked, which should not
-     * contain a mine
+     * @param indices the linear indices of the cells
      */
-    private void initMines(Cell cell) {
-        int rr, rc;
-        for (int i = 0; i < mineCount; i++) {
-            // ensures the random index has not already been selected
-            do {
-                rr = current().nextInt(rows);
-                rc = current().nextInt(cols);
-            } while (grid[rr][rc] == cell || grid[rr][rc].hasMine());
-            grid[rr][rc].setHasMine(true);
+    private void repaintCells(int[] indices) {
+        Rectangle dirty = null;
+        for (int i : indices) {
+            dirty = addBounds(dirty, cells[i]);
+        }
+
+        if (dirty != null) {
+            repaint(dirty);
         }
     }
 
     /**
-     * Initialises the cells in the grid, creating and adding each {@link Cell}
-     * to the grid layout.
+     * Brings the given cells in line with the state of the board and grows a
+     * dirty rectangle to cover those that changed. Only the cells reported as
+     * changed by the board are visited, so the cost of a move depends on how
+     * many cells it opened rather than on the board size, and a cascade
+     * queues one repaint however many cells it opens.
+     *
+     * @param dirty the dirty rectangle so far, or {@code null} if empty
+     * @param changed the linear indices of the cells changed by a move
+     * @return the grown rectangle, or {@code null} if still empty
      */
-    private void initCells() {
-        grid = new Cell[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                grid[r][c] = createCell();
-                add(grid[r][c]);
+    private Rectangle syncCells(Rectangle dirty, int[] changed) {
+        for (int i : changed) {
+            Cell cell = cells[i];
+            if (syncCell(cell)) {
+                dirty = addBounds(dirty, cell);
             }
         }
+        return dirty;
     }
 
     /**
-     * Creates a new {@link Cell} with the current grid's cell colour and font.
+     * Grows a dirty rectangle to cover the given cell.
      *
-     * @return a newly created {@link Cell}
+     * @param dirty the dirty rectangle so far, or {@code null} if empty
+     * @param cell the {@link Cell} to cover
+     * @return the grown rectangle
      */
-    private Cell createCell() {
-        Cell cell = new Cell(cellColor);
-        cell.setForeground(Palette.PRIMARY_2);
-        
-        cell.setFont(font);
-        cell.setObserver(this);
-        return cell;
+    private static Rectangle addBounds(Rectangle dirty, Cell cell) {
+        if (dirty == null) {
+            return cell.getBounds();
+        }
+
+        dirty.add(cell.getBounds());
+        return dirty;
     }
 
     /**
-     * Retrieves the neighbouring cells of a given cell.
+     * Brings a single cell in line with the state of the board without
+     * repainting it. Cells whose state has not changed are left untouched.
      *
-     * @param cell the {@link Cell} whose neighbours are to be found
-     * @return an array of neighbouring {@link Cell} objects
+     * @param cell the {@link Cell} to update
+     * @return {@code true} if the cell changed and needs repainting
      */
-    private Cell[] getNeighboursOf(Cell cell) {
-        List<Cell> cells = new ArrayList<>(8);
-
-        if (!cacheValid) {
-            cw = getWidth() / cols;
-            ch = getHeight() / rows;
-            cacheValid = true;
+    private boolean syncCell(Cell cell) {
+        int i = cell.getIndex();
+
+        CellState state;
+        if (board.isRevealed(i)) {
+            state = CellState.PRESSED;
+        } else if (board.isFlagged(i)) {
+            state = CellState.FLAGGED;
+        } else {
+            state = CellState.DEFAULT;
         }
 
-        int row = cell.getY() / ch;
-        int col = cell.getX() / cw;
-
-        for (int r = row - 1; r <= row + 1; r++) {
-            if (r < 0 || r >= rows) {
-                continue;
-            }
-
-            for (int c = col - 1; c <= col + 1; c++) {
-                if ((r == row && c == col) || (c < 0 || c >= cols)) {
-                    continue;
-                }
+        if (state == cell.getState()) {
+            return false;
+        }
 
-                cells.add(grid[r][c]);
+        cell.setState(state);
+        if (state == CellState.PRESSED) {
+            if (board.hasMine(i)) {
+                cell.setHasMine(true);
+            } else {
+                cell.setAdjacentMines(board.getAdjacentMines(i));
             }
         }
 
-        return cells.toArray(Cell[]::new);
+        return true;
     }
 
     /**
-     * Ensures the flag counter is accurately maintained. This method checks if
-     * the flagging operation is valid and adjusts the flag count accordingly.
+     * Returns the column or row at the given offset along one axis of a
+     * {@link GridLayout}. The layout gives every slot the same whole number of
+     * pixels and splits what is left over evenly on both sides of the grid.
      *
-     * @param cell the {@link Cell} being flagged or unflagged
+     * @param p the offset along the axis, in pixels
+     * @param extent the size of the grid along the axis, in pixels
+     * @param n the number of slots along the axis
+     * @return the slot at the offset, or {@code -1} if the offset lies in a
+     * gap or outside the grid
      */
-    private void enforceFlagCounter(Cell cell) {
-        if (!cell.isFlagged()) { // Cell is being unflagged
-            flagCount--;
-            return;
+    private static int slotAt(int p, int extent, int n) {
+        int size = (extent - (n - 1) * GAP) / n;
+        if (size <= 0) {
+            return -1;
         }
 
-        if (flagCount + 1 > mineCount) { // undo flag
-            cell.setState(CellState.DEFAULT);
-            return;
+        int q = p - (extent - (size * n + (n - 1) * GAP)) / 2;
+        if (q < 0) {
+            return -1;
         }
 
-        flagCount++;
+        int pitch = size + GAP;
+        int slot = q / pitch;
+        return slot < n && q - slot * pitch < size ? slot : -1;
     }
 
     /**
-     * Configures a component listener to handle events such as component
-     * resizing. This listener is used to invalidate the cache values when the
-     * grid is resized.
+     * Configures the single mouse listener of the grid. A hover change
+     * repaints only the rectangles of the cell left and the cell entered, and
+     * a press on a cell that has not been revealed, a chord on one that has,
+     * or a whole drag gesture is applied to the board as one move, which the
+     * board reports through {@link #boardChanged(BoardDelta)}.
      */
-    private void configComponentListener() {
-        addComponentListener(new ComponentAdapter() {
+    private void configMouseListener() {
+        mouse = GridMouseHandler.install(this, new GridMouseHandler.Target() {
+            @Override
+            public int cellAt(int x, int y) {
+                return GameGrid.this.cellAt(x, y);
+            }
+
             @Override
-            public void componentResized(ComponentEvent e) {
-                cacheValid = false;
+            public int getCols() {
+                return cols;
+            }
+
+            @Override
+            public void hoverChanged(int oldIndex, int newIndex) {
+                if (oldIndex >= 0) {
+                    repaint(cells[oldIndex].getBounds());
+                }
+                if (newIndex >= 0) {
+                    repaint(cells[newIndex].getBounds());
+                }
+            }
+
+            @Override
+            public void cellPressed(int index, boolean rightClick) {
+                if (cells[index].isPressed()) {
+                    return; // Cells cannot be unpressed once pressed
+                }
+
+                if (rightClick) {
+                    board.toggleFlag(index);
+                } else {
+                    board.reveal(index);
+                }
+            }
+
+            @Override
+            public void cellChorded(int index) {
+                board.chord(index); // does nothing unless the cell is a satisfied number
+            }
+
+            @Override
+            public void cellsMarked(int[] marked) {
+                repaintCells(marked);
+            }
+
+            @Override
+            public void cellsDragged(int[] dragged, boolean flag) {
+                repaintCells(dragged); // merged with the board's own repaint
+                if (flag) {
+                    board.flagAll(dragged);
+                } else {
+                    board.revealAll(dragged);
+                }
             }
         });
     }
 
+    /**
+     * Initialises the cells in the grid, creating and adding each {@link Cell}
+     * to the grid layout.
+     */
+    private void initCells() {
+        cells = new Cell[rows * cols];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = createCell(i);
+            add(cells[i]);
+        }
+    }
+
+    /**
+     * Creates a new {@link Cell} painted from the grid's shared atlas.
+     *
+     * @param index the linear board index the cell represents
+     * @return a newly created {@link Cell}
+     */
+    private Cell createCell(int index) {
+        return new Cell(atlas, index);
+    }
+
     /**
      * Handles the event when a mine is clicked. This method reveals all mines
-     * in the grid and triggers the game over logic.
+     * in the grid, visiting only the board's list of mine indices, repaints
+     * them with a single request and triggers the game over logic.
      */
     private void handleMineClicked() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (grid[r][c].hasMine()) {
-                    grid[r][c].setState(CellState.PRESSED);
-                    grid[r][c].update();
-                }
+        Rectangle dirty = null;
+        for (int i : board.getMineIndices()) {
+            Cell cell = cells[i];
+            if (cell.isPressed() && cell.hasMine()) {
+                continue; // the mine that was clicked
             }
+
+            cell.setHasMine(true);
+            cell.setState(CellState.PRESSED);
+            dirty = addBounds(dirty, cell);
         }
 
-        repaint();
+        if (dirty != null) {
+            repaint(dirty);
+        }
         GameManager.showGameOver(false);
     }
 
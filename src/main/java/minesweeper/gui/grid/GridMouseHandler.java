@@ -0,0 +1,473 @@
+package minesweeper.gui.grid;
+
+import java.awt.event.InputEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+import java.util.BitSet;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * The {@code GridMouseHandler} class is the single mouse listener of a board
+ * view. Instead of one listener per cell, it maps pointer coordinates to a
+ * cell index arithmetically through its {@link Target} and drives hover,
+ * reveal, flag, chord and drag gestures from there, so tracking the pointer
+ * costs the same on any board size.
+ * <p>
+ * A left press reveals a cell and a right press toggles its flag. A middle
+ * press, or pressing one of the left and right buttons while the other is
+ * held, chords on the cell instead.
+ * </p>
+ * <p>
+ * Holding shift while pressing starts a drag gesture: every cell the pointer
+ * crosses is marked, and on release the marked cells are revealed, after a
+ * left drag, or flagged, after a right drag, as a single move. The path is
+ * interpolated between the cells the pointer is sampled over, so a fast drag
+ * does not skip cells.
+ * </p>
+ * <p>
+ * Mouse motion is coalesced: the hover, or the drag path, follows the first
+ * move at once, and moves during the following {@value #FRAME_MILLIS} ms
+ * frame only record the pointer position, which is applied when the frame
+ * ends. Sweeping the mouse across a large board therefore queues at most one
+ * update per frame, however many motion events arrive.
+ * </p>
+ *
+ * @see minesweeper.gui.grid.GameGrid
+ * @see minesweeper.gui.grid.BoardCanvas
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+final class GridMouseHandler extends MouseAdapter {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The shortest interval between two hover updates, in milliseconds;
+     * roughly one frame at 60 Hz.
+     */
+    static final int FRAME_MILLIS = 16;
+
+    /**
+     * The modifier mask of the left and right buttons held together.
+     */
+    private static final int CHORD_MASK = InputEvent.BUTTON1_DOWN_MASK | InputEvent.BUTTON3_DOWN_MASK;
+
+    /**
+     * The initial capacity of the drag path.
+     */
+    private static final int INITIAL_PATH_CAPACITY = 64;
+
+    /**
+     * The view the handler hit-tests and reports to.
+     */
+    private final Target target;
+
+    /**
+     * The linear index of the cell under the pointer, or {@code -1} if none.
+     */
+    private int hover = -1;
+
+    /**
+     * The latest pointer position.
+     */
+    private int pendingX, pendingY;
+
+    /**
+     * Whether the pointer has moved since the hover was last updated.
+     */
+    private boolean pending;
+
+    /**
+     * Runs while a frame is in progress; when it fires, any position recorded
+     * during the frame is applied.
+     */
+    private final Timer frame;
+
+    /**
+     * Whether a drag gesture is in progress.
+     */
+    private boolean dragging;
+
+    /**
+     * Whether the current drag gesture flags cells rather than revealing
+     * them.
+     */
+    private boolean dragFlags;
+
+    /**
+     * The button that started the current drag gesture, as returned by
+     * {@link MouseEvent#getButton()}. Only its release ends the gesture.
+     */
+    private int dragButton;
+
+    /**
+     * The cells marked by the current drag gesture, in the order they were
+     * crossed. Only the first {@link #pathLength} entries are used.
+     */
+    private int[] path = new int[INITIAL_PATH_CAPACITY];
+
+    /**
+     * The number of cells marked by the current drag gesture.
+     */
+    private int pathLength;
+
+    /**
+     * The cells marked by the current drag gesture, for constant time lookup.
+     */
+    private final BitSet marked = new BitSet();
+
+    /**
+     * The last cell added to the drag path, from which the path continues.
+     */
+    private int lastCell = -1;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a handler for the given target. Use
+     * {@link #install(JComponent, Target)} to register it.
+     *
+     * @param target the view to hit-test and report to
+     */
+    private GridMouseHandler(Target target) {
+        this.target = target;
+        this.frame = new Timer(FRAME_MILLIS, ev -> {
+            if (pending) {
+                applyPending();
+            }
+        });
+        this.frame.setRepeats(false);
+    }
+
+    /**
+     * Creates a handler for the given target and registers it as a mouse and
+     * mouse motion listener of the given component.
+     *
+     * @param component the component receiving the mouse events
+     * @param target the view to hit-test and report to
+     * @return the installed handler
+     */
+    static GridMouseHandler install(JComponent component, Target target) {
+        GridMouseHandler handler = new GridMouseHandler(target);
+        component.addMouseListener(handler);
+        component.addMouseMotionListener(handler);
+        return handler;
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the linear index of the cell under the pointer.
+     *
+     * @return the hovered cell, or {@code -1} if none
+     */
+    int getHover() {
+        return hover;
+    }
+
+    /**
+     * Returns the number of cells marked by the drag gesture in progress.
+     * Together with {@link #getPathCell(int)} it lets a paint pass walk the
+     * path without copying it.
+     *
+     * @return the number of marked cells, {@code 0} if no gesture is in
+     * progress
+     */
+    int getPathLength() {
+        return pathLength;
+    }
+
+    /**
+     * Returns a cell marked by the drag gesture in progress.
+     *
+     * @param i the position of the cell on the path, from {@code 0} to
+     * {@link #getPathLength()} exclusive
+     * @return the linear index of the cell
+     */
+    int getPathCell(int i) {
+        return path[i];
+    }
+
+    /**
+     * Checks whether a drag gesture is in progress.
+     *
+     * @return {@code true} while a drag gesture is in progress
+     */
+    boolean isDragging() {
+        return dragging;
+    }
+
+    /**
+     * Checks whether a cell has been marked by the drag gesture in progress.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is marked
+     */
+    boolean isMarked(int index) {
+        return dragging && marked.get(index);
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    @Override
+    public void mousePressed(MouseEvent ev) {
+        if (dragging) {
+            return; // another button during a gesture
+        }
+
+        int index = target.cellAt(ev.getX(), ev.getY());
+        if (index < 0) {
+            return;
+        }
+
+        if (isChord(ev)) {
+            target.cellChorded(index);
+        } else if (ev.isShiftDown()) {
+            startDrag(index, ev.getButton(), SwingUtilities.isRightMouseButton(ev));
+        } else {
+            target.cellPressed(index, SwingUtilities.isRightMouseButton(ev));
+        }
+    }
+
+    @Override
+    public void mouseReleased(MouseEvent ev) {
+        if (!dragging || ev.getButton() != dragButton) {
+            return; // another button released during a gesture
+        }
+
+        pending = false;
+        extendPath(target.cellAt(ev.getX(), ev.getY())); // the last position is never dropped
+
+        int[] cells = Arrays.copyOf(path, pathLength);
+        dragging = false;
+        marked.clear();
+        pathLength = 0;
+        lastCell = -1;
+        target.cellsDragged(cells, dragFlags);
+    }
+
+    @Override
+    public void mouseMoved(MouseEvent ev) {
+        record(ev);
+    }
+
+    @Override
+    public void mouseDragged(MouseEvent ev) {
+        if (dragging) {
+            record(ev);
+        }
+    }
+
+    @Override
+    public void mouseExited(MouseEvent ev) {
+        if (!dragging) { // a gesture keeps following the pointer
+            frame.stop();
+            pending = false;
+        }
+        setHover(-1);
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Checks whether a press asks for a chord: a middle press, or a left or
+     * right press while the other of the two is held. The first of the two
+     * buttons has already been handled as a plain press, which does nothing
+     * on a revealed number.
+     *
+     * @param ev the press event
+     * @return {@code true} if the press is a chord
+     */
+    private static boolean isChord(MouseEvent ev) {
+        return SwingUtilities.isMiddleMouseButton(ev) || (ev.getModifiersEx() & CHORD_MASK) == CHORD_MASK;
+    }
+
+    /**
+     * Records the pointer position of a motion event, applying it at once if
+     * no frame is in progress.
+     *
+     * @param ev the motion event
+     */
+    private void record(MouseEvent ev) {
+        pendingX = ev.getX();
+        pendingY = ev.getY();
+        pending = true;
+        if (!frame.isRunning()) {
+            applyPending(); // the first move of a frame is shown at once
+        }
+    }
+
+    /**
+     * Applies the latest pointer position, to the drag path during a gesture
+     * and to the hover otherwise, and starts a new frame, during which further
+     * moves are only recorded.
+     */
+    private void applyPending() {
+        pending = false;
+        int index = target.cellAt(pendingX, pendingY);
+        if (dragging) {
+            extendPath(index);
+        } else {
+            setHover(index);
+        }
+        frame.start();
+    }
+
+    /**
+     * Moves the hover to the given cell, reporting the change if it moved.
+     *
+     * @param index the linear index of the hovered cell, or {@code -1}
+     */
+    private void setHover(int index) {
+        if (index != hover) {
+            int old = hover;
+            hover = index;
+            target.hoverChanged(old, index);
+        }
+    }
+
+    /**
+     * Starts a drag gesture on the given cell.
+     *
+     * @param index the linear index of the cell pressed
+     * @param button the button pressed, whose release ends the gesture
+     * @param flags {@code true} to flag the crossed cells, {@code false} to
+     * reveal them
+     */
+    private void startDrag(int index, int button, boolean flags) {
+        dragging = true;
+        dragButton = button;
+        dragFlags = flags;
+        lastCell = index;
+        mark(index);
+        target.cellsMarked(new int[] {index});
+    }
+
+    /**
+     * Extends the drag path to the given cell, marking every cell on the
+     * straight line from the last cell of the path. The line is walked with
+     * Bresenham's algorithm over rows and columns, so the path stays
+     * connected however far the pointer moved between two samples. Points
+     * outside every cell are ignored.
+     *
+     * @param to the linear index of the cell under the pointer, or {@code -1}
+     */
+    private void extendPath(int to) {
+        if (to < 0 || to == lastCell) {
+            return;
+        }
+
+        int cols = target.getCols();
+        int r = lastCell / cols, c = lastCell % cols;
+        int r1 = to / cols, c1 = to % cols;
+        int dr = Math.abs(r1 - r), dc = Math.abs(c1 - c);
+        int sr = r < r1 ? 1 : -1, sc = c < c1 ? 1 : -1;
+        int err = dc - dr;
+
+        int start = pathLength;
+        while (r != r1 || c != c1) {
+            int e2 = 2 * err;
+            if (e2 > -dr) {
+                err -= dr;
+                c += sc;
+            }
+            if (e2 < dc) {
+                err += dc;
+                r += sr;
+            }
+            mark(r * cols + c);
+        }
+
+        lastCell = to;
+        if (pathLength > start) {
+            target.cellsMarked(Arrays.copyOfRange(path, start, pathLength));
+        }
+    }
+
+    /**
+     * Adds a cell to the drag path unless it has been marked already.
+     *
+     * @param index the linear index of the cell
+     */
+    private void mark(int index) {
+        if (marked.get(index)) {
+            return;
+        }
+
+        marked.set(index);
+        if (pathLength == path.length) {
+            path = Arrays.copyOf(path, pathLength * 2);
+        }
+        path[pathLength++] = index;
+    }
+
+    // --------------------------- Inner Classes ---------------------------- //
+    /**
+     * The view side of a {@code GridMouseHandler}.
+     */
+    interface Target {
+
+        /**
+         * Returns the linear index of the cell at the given point.
+         *
+         * @param x the x-coordinate, in pixels
+         * @param y the y-coordinate, in pixels
+         * @return the linear index of the cell, or {@code -1} if the point
+         * lies outside every cell
+         */
+        int cellAt(int x, int y);
+
+        /**
+         * Returns the number of columns on the board, used to walk drag paths
+         * by row and column.
+         *
+         * @return the number of columns
+         */
+        int getCols();
+
+        /**
+         * Called when the pointer moves from one cell to another.
+         *
+         * @param oldIndex the previously hovered cell, or {@code -1}
+         * @param newIndex the newly hovered cell, or {@code -1}
+         */
+        void hoverChanged(int oldIndex, int newIndex);
+
+        /**
+         * Called when a mouse button is pressed over a cell.
+         *
+         * @param index the linear index of the cell
+         * @param rightClick {@code true} for the right button
+         */
+        void cellPressed(int index, boolean rightClick);
+
+        /**
+         * Called when a chord is made on a cell.
+         *
+         * @param index the linear index of the cell
+         */
+        void cellChorded(int index);
+
+        /**
+         * Called once per frame while a drag gesture marks new cells, so they
+         * can be repainted as marked.
+         *
+         * @param cells the linear indices of the newly marked cells
+         */
+        void cellsMarked(int[] cells);
+
+        /**
+         * Called when a drag gesture ends. Every marked cell should be
+         * repainted, since none is marked any more, and the gesture applied to
+         * the board as one move.
+         *
+         * @param cells the linear indices of the marked cells, in the order
+         * they were crossed
+         * @param flag {@code true} to flag the cells, {@code false} to reveal
+         * them
+         */
+        void cellsDragged(int[] cells, boolean flag);
+    }
+
+}
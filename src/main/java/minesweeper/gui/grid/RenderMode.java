@@ -0,0 +1,58 @@
+package minesweeper.gui.grid;
+
+import minesweeper.engine.BoardSpec;
+
+/**
+ * The {@code RenderMode} enum selects how a board is drawn on screen.
+ * <p>
+ * The possible modes are:
+ * <ul>
+ * <li>{@link #COMPONENTS} - One {@link Cell} component per board cell, laid
+ * out by a {@link GameGrid}.</li>
+ * <li>{@link #VIRTUAL} - A single {@link BoardCanvas} that paints only the
+ * visible cells straight from the board state.</li>
+ * </ul>
+ * </p>
+ *
+ * @see minesweeper.gui.grid.GameGrid
+ * @see minesweeper.gui.grid.BoardCanvas
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public enum RenderMode {
+
+    /**
+     * Draws every cell as its own Swing component. Layout and memory grow with
+     * the size of the board, so this mode suits the standard difficulty
+     * levels.
+     */
+    COMPONENTS,
+
+    /**
+     * Draws the whole board with a single component. Layout, memory and paint
+     * cost depend only on the visible area.
+     */
+    VIRTUAL;
+
+    /**
+     * The largest number of cells drawn with {@link #COMPONENTS} when the mode
+     * is chosen automatically.
+     */
+    public static final int COMPONENT_CELL_LIMIT = 1024;
+
+    /**
+     * Chooses the render mode for a board: boards up to
+     * {@link #COMPONENT_CELL_LIMIT} cells use {@link #COMPONENTS}, larger
+     * boards use {@link #VIRTUAL}.
+     *
+     * @param spec the {@link BoardSpec} of the board
+     * @return the render mode suited to the board
+     */
+    public static RenderMode forSpec(BoardSpec spec) {
+        return spec.getCellCount() <= COMPONENT_CELL_LIMIT ? COMPONENTS : VIRTUAL;
+    }
+
+}
@@ -0,0 +1,325 @@
+package minesweeper.gui.grid;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import javax.swing.border.Border;
+import minesweeper.util.GameColor;
+import minesweeper.util.IconCache;
+import minesweeper.util.IconCache.Symbol;
+import minesweeper.util.Palette;
+
+/**
+ * The {@code TileAtlas} class pre-renders every visual state of a cell into a
+ * single image, so that painting a cell is one blit instead of text layout,
+ * border painting and icon drawing.
+ * <p>
+ * The atlas holds one tile per {@link Tile}, laid out side by side. It is
+ * rendered lazily for the size a cell is painted at, and rebuilt only when
+ * that size or the cell colour changes. Colours and borders come from a
+ * shared {@link CellTheme}. The image is created compatible with
+ * the screen so that blitting it needs no conversion.
+ * </p>
+ * <p>
+ * The atlas is rendered in device pixels: on a HiDPI screen, where the
+ * graphics transform scales logical pixels up, tiles are rendered at the
+ * scaled size so that blitting them is one to one. Icons are sized to the
+ * tile and taken from {@link IconCache}.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * TileAtlas atlas = new TileAtlas(Palette.PRIMARY_3, font);
+ * atlas.paint(g, Tile.digit(3), x, y, width, height);
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.gui.grid.Cell
+ * @see minesweeper.gui.grid.BoardCanvas
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class TileAtlas {
+
+    // ---------------------------- Constants ------------------------------- //
+    /**
+     * The smallest size icons are drawn at, in logical pixels. Icons otherwise
+     * cover two thirds of a tile, which is 16 pixels for the default cell.
+     */
+    private static final int MIN_ICON_SIZE = 8;
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The shared colours and borders the tiles are rendered with.
+     */
+    private CellTheme theme;
+
+    /**
+     * The font used for the neighbouring mine counts.
+     */
+    private final Font font;
+
+    /**
+     * The rendered tiles, or {@code null} if the atlas must be rebuilt.
+     */
+    private BufferedImage image;
+
+    /**
+     * The width of a tile in the current image, in pixels.
+     */
+    private int tileWidth;
+
+    /**
+     * The height of a tile in the current image, in pixels.
+     */
+    private int tileHeight;
+
+    /**
+     * The device scale the current image was rendered for.
+     */
+    private double scale;
+
+    /**
+     * The width of a tile in the current image, in device pixels.
+     */
+    private int pixelWidth;
+
+    /**
+     * The height of a tile in the current image, in device pixels.
+     */
+    private int pixelHeight;
+
+    // --------------------------- Constructors ----------------------------- //
+    /**
+     * Constructs a new {@code TileAtlas} for the given cell colour and font.
+     * Nothing is rendered until the first tile is painted.
+     *
+     * @param cellColor the colour of hidden and pressed cells
+     * @param font the font used for the neighbouring mine counts
+     */
+    public TileAtlas(Color cellColor, Font font) {
+        this.theme = CellTheme.of(cellColor);
+        this.font = font;
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Returns the colour of hidden and pressed cells.
+     *
+     * @return the cell {@link GameColor}
+     */
+    public GameColor getCellColor() {
+        return theme.getCellColor();
+    }
+
+    // ------------------------------ Setters ------------------------------- //
+    /**
+     * Sets the colour of hidden and pressed cells. The atlas is rebuilt the
+     * next time a tile is painted, unless the colour is unchanged.
+     *
+     * @param cellColor the new cell colour
+     */
+    public void setCellColor(Color cellColor) {
+        CellTheme next = CellTheme.of(cellColor);
+        if (next != theme) {
+            theme = next;
+            image = null;
+        }
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Paints a tile at the given position and size. The atlas is rebuilt
+     * first if it was rendered for a different size, device scale or colour.
+     *
+     * @param g the {@link Graphics} object used for drawing
+     * @param tile the tile to paint
+     * @param x the left edge of the tile, in pixels
+     * @param y the top edge of the tile, in pixels
+     * @param width the width of the tile, in pixels
+     * @param height the height of the tile, in pixels
+     */
+    public void paint(Graphics g, Tile tile, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        double deviceScale = g instanceof Graphics2D g2 ? g2.getTransform().getScaleX() : 1;
+        if (image == null || width != tileWidth || height != tileHeight || deviceScale != scale) {
+            render(width, height, deviceScale);
+        }
+
+        int sx = tile.ordinal() * pixelWidth;
+        g.drawImage(image, x, y, x + width, y + height, sx, 0, sx + pixelWidth, pixelHeight, null);
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Renders every tile at the given size into a new image, in device
+     * pixels for the given scale.
+     *
+     * @param width the width of a tile, in logical pixels
+     * @param height the height of a tile, in logical pixels
+     * @param deviceScale the scale from logical to device pixels
+     */
+    private void render(int width, int height, double deviceScale) {
+        Tile[] tiles = Tile.values();
+        tileWidth = width;
+        tileHeight = height;
+        scale = deviceScale;
+        pixelWidth = Math.max(1, (int) Math.round(width * deviceScale));
+        pixelHeight = Math.max(1, (int) Math.round(height * deviceScale));
+        image = createImage(pixelWidth * tiles.length, pixelHeight);
+
+        GameColor cellColor = theme.getCellColor();
+        GameColor flagColor = theme.getFlagColor();
+        Border raised = theme.getRaisedBorder();
+        Border flagged = theme.getFlaggedBorder();
+        Border pressed = theme.getPressedBorder();
+        int iconSize = Math.max(MIN_ICON_SIZE, Math.min(width, height) * 2 / 3);
+        int iconPixels = (int) Math.round(iconSize * deviceScale);
+        Image flag = IconCache.get(Symbol.FLAG, iconPixels);
+        Image mine = IconCache.get(Symbol.MINE, iconPixels);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setFont(font);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            for (Tile tile : tiles) {
+                Graphics2D t = (Graphics2D) g.create(tile.ordinal() * pixelWidth, 0, pixelWidth, pixelHeight);
+                t.scale(deviceScale, deviceScale);
+                try {
+                    switch (tile) {
+                        case RAISED:
+                            paintBase(t, cellColor.getColor(), raised);
+                            break;
+                        case RAISED_HOVER:
+                            paintBase(t, cellColor.getHighlight(), raised);
+                            break;
+                        case FLAGGED:
+                            paintBase(t, flagColor.getColor(), flagged);
+                            drawCentred(t, flag, iconSize);
+                            break;
+                        case FLAGGED_HOVER:
+                            paintBase(t, flagColor.getHighlight(), flagged);
+                            drawCentred(t, flag, iconSize);
+                            break;
+                        case PRESSED:
+                            paintBase(t, cellColor.getColor(), pressed);
+                            break;
+                        case MINE:
+                            paintBase(t, cellColor.getColor(), pressed);
+                            drawCentred(t, mine, iconSize);
+                            break;
+                        default: // digits
+                            paintBase(t, cellColor.getColor(), pressed);
+                            drawDigit(t, tile.ordinal() - Tile.DIGIT_1.ordinal() + 1);
+                    }
+                } finally {
+                    t.dispose();
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Fills a tile with the given colour and paints the given border around
+     * it.
+     */
+    private void paintBase(Graphics2D g, Color fill, Border border) {
+        g.setColor(fill);
+        g.fillRect(0, 0, tileWidth, tileHeight);
+        border.paintBorder(null, g, 0, 0, tileWidth, tileHeight);
+    }
+
+    /**
+     * Draws an icon centred in a tile at the given logical size.
+     */
+    private void drawCentred(Graphics2D g, Image icon, int size) {
+        g.drawImage(icon, (tileWidth - size) / 2, (tileHeight - size) / 2, size, size, null);
+    }
+
+    /**
+     * Draws a neighbouring mine count centred in a tile.
+     */
+    private void drawDigit(Graphics2D g, int count) {
+        String text = String.valueOf(count);
+        FontMetrics fm = g.getFontMetrics();
+        g.setColor(Palette.PRIMARY_2);
+        g.drawString(text, (tileWidth - fm.stringWidth(text)) / 2,
+                (tileHeight - fm.getHeight()) / 2 + fm.getAscent());
+    }
+
+    /**
+     * Creates an opaque image compatible with the screen, or a plain
+     * {@link BufferedImage} when running headless.
+     */
+    private static BufferedImage createImage(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(width, height, Transparency.OPAQUE);
+    }
+
+    // --------------------------- Inner Classes ---------------------------- //
+    /**
+     * The visual states a cell can be drawn in.
+     */
+    public enum Tile {
+        RAISED,
+        RAISED_HOVER,
+        FLAGGED,
+        FLAGGED_HOVER,
+        PRESSED,
+        MINE,
+        DIGIT_1,
+        DIGIT_2,
+        DIGIT_3,
+        DIGIT_4,
+        DIGIT_5,
+        DIGIT_6,
+        DIGIT_7,
+        DIGIT_8;
+
+        private static final Tile[] TILES = values();
+
+        /**
+         * Returns the tile for a pressed cell with the given number of
+         * neighbouring mines.
+         *
+         * @param count the neighbouring mine count, from 0 to 8
+         * @return {@link #PRESSED} for 0, otherwise the matching digit tile
+         */
+        public static Tile digit(int count) {
+            return count == 0 ? PRESSED : TILES[DIGIT_1.ordinal() + count - 1];
+        }
+
+        /**
+         * Returns the hover highlight drawn over an unrevealed cell.
+         *
+         * @param flagged whether the cell is flagged
+         * @return {@link #FLAGGED_HOVER} or {@link #RAISED_HOVER}
+         */
+        public static Tile hover(boolean flagged) {
+            return flagged ? FLAGGED_HOVER : RAISED_HOVER;
+        }
+    }
+
+}
@@ -5,6 +5,8 @@ import java.awt.FontFormatException;
 import java.awt.GraphicsEnvironment;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@code GameFont} enum is responsible for managing custom fonts used in
@@ -15,14 +17,22 @@ import java.io.InputStream;
  * resource files located in the {@code /fonts/} directory.
  * </p>
  * <p>
+ * Fonts are loaded and registered lazily, the first time a constant's font is
+ * requested, so that starting the game only pays for the fonts it uses.
+ * Derived sizes and styles are cached per constant by
+ * {@link #getFont(int, float)}.
+ * </p>
+ * <p>
  * Example usage:
  * <pre>
  * Font myFont = GameFont.DAYDREAM.getFont();
+ * Font cellFont = GameFont.RAINYHEARTS.getFont(Font.BOLD, 16f);
  * </pre>
  * </p>
  * <p>
  * It also defines a default font, {@code DEFAUL_FONT}, which can be used as a
- * fallback or standard font within the application.
+ * fallback or standard font within the application. Referencing it loads the
+ * "rainyhearts" font.
  * </p>
  * <p>
  * Note: Ensure the font files are properly placed in the specified resource
@@ -47,61 +57,109 @@ public enum GameFont {
     /**
      * Enum constant for the "daydream" font.
      */
-    DAYDREAM("daydream"),
+    DAYDREAM("daydream.ttf"),
     /**
      * Enum constant for the "kraash" font.
      */
-    KRAASH("kraash"),
+    KRAASH("kraash.ttf"),
     /**
      * Enum constant for the "mariokart" font.
      */
-    MARIO_KART("mariokart"),
+    MARIO_KART("mariokart.ttf"),
     /**
      * Enum constant for the "namecat" font.
      */
-    NAMECAT("namecat"),
+    NAMECAT("namecat.ttf"),
     /**
      * Enum constant for the "rainyhearts" font.
      */
-    RAINYHEARTS("rainyhearts"),
+    RAINYHEARTS("rainyhearts.ttf"),
     /**
      * Enum constant for the "thickpixel" font.
      */
-    THICK_PIXEL("thickpixel");
+    THICK_PIXEL("thickpixel.TTF");
 
     // ------------------------------ Fields -------------------------------- //
     /**
      * The default font used in the application. It is derived from the
      * "rainyhearts" font, bold and size 15.
      */
-    public static final Font DEFAUL_FONT = RAINYHEARTS.font.deriveFont(Font.BOLD, 15f);
+    public static final Font DEFAUL_FONT = RAINYHEARTS.getFont(Font.BOLD, 15f);
+
+    /**
+     * The name of the font file in the {@code /fonts/} directory.
+     */
+    private final String filename;
+
+    /**
+     * The {@code Font} object associated with this enum constant, or
+     * {@code null} until it is first requested.
+     */
+    private volatile Font font;
+
+    /**
+     * Whether loading the font has been attempted, so a missing font is only
+     * reported once.
+     */
+    private volatile boolean loaded;
 
     /**
-     * The {@code Font} object associated with this enum constant.
+     * The derived fonts created so far, keyed by style and size.
      */
-    private final Font font;
+    private final Map<Long, Font> derived = new ConcurrentHashMap<>();
 
     // --------------------------- Constructors ----------------------------- //
     /**
-     * Private constructor for the {@code FontManager} enum. Initializes the
-     * {@code font} field by retrieving the font from the specified file name.
+     * Private constructor for the {@code FontManager} enum. The font itself is
+     * not read until {@link #getFont()} is first called.
      *
-     * @param filename the name of the font file (without the extension)
+     * @param filename the name of the font file, including the extension
      */
     private GameFont(String filename) {
-        font = retrieveFont("/fonts/" + filename + ".ttf");
+        this.filename = filename;
     }
 
     // ------------------------------ Getters ------------------------------- //
     /**
-     * Returns the {@code Font} associated with this enum constant.
+     * Returns the {@code Font} associated with this enum constant, loading
+     * and registering it on first access.
      *
-     * @return the {@code Font} object
+     * @return the {@code Font} object, or {@code null} if it could not be
+     * loaded
      */
     public Font getFont() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    long start = System.nanoTime();
+                    font = retrieveFont("/fonts/" + filename);
+                    loaded = true;
+                    StartupMetrics.record("font " + name(), System.nanoTime() - start);
+                }
+            }
+        }
         return font;
     }
 
+    /**
+     * Returns the font of this constant derived to the given style and size.
+     * Each style and size is derived once and cached.
+     *
+     * @param style the style of the font, such as {@link Font#BOLD}
+     * @param size the point size of the font
+     * @return the derived {@code Font}, or {@code null} if the font could not
+     * be loaded
+     */
+    public Font getFont(int style, float size) {
+        Font base = getFont();
+        if (base == null) {
+            return null;
+        }
+
+        long key = ((long) style << 32) | (Float.floatToIntBits(size) & 0xFFFFFFFFL);
+        return derived.computeIfAbsent(key, k -> base.deriveFont(style, size));
+    }
+
     // -------------------------- Helper Methods ---------------------------- //
     /**
      * Retrieves and registers a font from the specified path.
@@ -123,8 +181,7 @@ public enum GameFont {
      * @throws IOException if an I/O error occurs during font loading
      */
     private static Font retrieveFont(String path) {
-        try {
-            InputStream in = GameFont.class.getResourceAsStream(path);
+        try (InputStream in = GameFont.class.getResourceAsStream(path)) {
             if (in == null) {
                 throw new IllegalArgumentException("Font file not found: " + path);
             }
@@ -18,11 +18,16 @@ import javax.swing.ImageIcon;
  * </pre>
  * </p>
  * <p>
+ * To draw an icon at an arbitrary size, use {@link IconCache}, which picks
+ * the best source among the sizes shipped here.
+ * </p>
+ * <p>
  * Note: Ensure the icon files are properly placed in the specified resource
  * path for the icons to be loaded correctly.
  * </p>
  *
  * @see javax.swing.ImageIcon
+ * @see minesweeper.util.IconCache
  * @see java.net.URL
  *
  * @since 1.0
@@ -33,6 +38,10 @@ import javax.swing.ImageIcon;
 public enum GameIcon {
 
     // ---------------------------- Constants ------------------------------- //
+    /**
+     * Enum constant for the 48x48 flag icon.
+     */
+    FLAG_48("flag-48"),
     /**
      * Enum constant for the 32x32 flag icon.
      */
@@ -77,6 +86,15 @@ public enum GameIcon {
         return icon;
     }
 
+    /**
+     * Returns the width of the icon in pixels. Every icon is square.
+     *
+     * @return the size of the icon
+     */
+    public int getSize() {
+        return icon.getIconWidth();
+    }
+
     // -------------------------- Helper Methods ---------------------------- //
     /**
      * Retrieves an icon from the specified path.
@@ -0,0 +1,146 @@
+package minesweeper.util;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code IconCache} class hands out game icons at any pixel size. For each
+ * request it picks the best source among the sizes shipped in
+ * {@link GameIcon}: an exact match is returned as is, otherwise the smallest
+ * source at least as large as the request is scaled down, falling back to the
+ * largest source when none is. Downscaling from a larger source keeps icons
+ * sharp on HiDPI screens, where a cell covers more device pixels than its
+ * logical size.
+ * <p>
+ * Scaled images are kept in a least-recently-used cache of
+ * {@link #MAX_ENTRIES} entries, so repainting or zooming back and forth
+ * between sizes does not rescale an image on every frame.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * int px = (int) Math.round(16 * g.getTransform().getScaleX());
+ * Image flag = IconCache.get(IconCache.Symbol.FLAG, px);
+ * g.drawImage(flag, x, y, 16, 16, null);
+ * </pre>
+ * </p>
+ *
+ * @see minesweeper.util.GameIcon
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class IconCache {
+
+    // ---------------------------- Constants ------------------------------- //
+    /**
+     * The largest number of scaled images kept in the cache.
+     */
+    public static final int MAX_ENTRIES = 32;
+
+    /**
+     * The scaled images, keyed by symbol and size, in least-recently-used
+     * order.
+     */
+    private static final Map<Long, Image> CACHE = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Image> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private IconCache() {
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Returns the given symbol as a square image of the given size.
+     *
+     * @param symbol the symbol to draw
+     * @param size the width and height of the image, in device pixels
+     * @return an image of the symbol at the requested size
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
+    public static synchronized Image get(Symbol symbol, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Icon size must be positive: " + size);
+        }
+
+        GameIcon source = bestSource(symbol, size);
+        if (source.getSize() == size) {
+            return source.getIcon().getImage();
+        }
+
+        long key = ((long) symbol.ordinal() << 32) | size;
+        Image image = CACHE.get(key);
+        if (image == null) {
+            image = scale(source.getIcon().getImage(), size);
+            CACHE.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * Returns the source icon best suited to drawing the given symbol at the
+     * given size: the smallest one at least as large, or the largest one if
+     * none is.
+     *
+     * @param symbol the symbol to draw
+     * @param size the size to draw it at, in device pixels
+     * @return the best {@link GameIcon} to scale from
+     */
+    public static GameIcon bestSource(Symbol symbol, int size) {
+        GameIcon best = null;
+        for (GameIcon icon : symbol.sources) {
+            if (icon.getSize() >= size && (best == null || icon.getSize() < best.getSize())) {
+                best = icon;
+            }
+        }
+
+        return best != null ? best : symbol.sources[symbol.sources.length - 1];
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Scales an image to a square of the given size with bicubic
+     * interpolation.
+     */
+    private static Image scale(Image source, int size) {
+        BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, size, size, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    // --------------------------- Inner Classes ---------------------------- //
+    /**
+     * The symbols available from the cache, each backed by the
+     * {@link GameIcon} sizes shipped for it, smallest first.
+     */
+    public enum Symbol {
+        FLAG(GameIcon.FLAG_16, GameIcon.FLAG_32, GameIcon.FLAG_48),
+        MINE(GameIcon.MINE_16, GameIcon.MINE_32);
+
+        private final GameIcon[] sources;
+
+        private Symbol(GameIcon... sources) {
+            this.sources = sources;
+        }
+    }
+
+}
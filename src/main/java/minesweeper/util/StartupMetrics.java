@@ -0,0 +1,146 @@
+package minesweeper.util;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * The {@code StartupMetrics} class reports how long the stages of starting
+ * the game take. Tracing is off by default and costs a single boolean check;
+ * it is turned on by setting the {@value #TRACE_PROPERTY} system property to
+ * {@code true}.
+ * <p>
+ * Two kinds of entries are printed to the standard error stream:
+ * <ul>
+ * <li>Marks, via {@link #mark(String)}, giving the time since the JVM
+ * started.</li>
+ * <li>Durations, via {@link #record(String, long)}, giving the time a single
+ * step took, such as loading a font.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * When the first frame has been painted, {@link #firstFrame()} prints a
+ * summary comparing the time to first frame with the total of the recorded
+ * durations, along with the number of classes loaded, whether an AppCDS
+ * archive was requested on the command line and whether class-data sharing
+ * is active. A large gap between the two times with many classes loaded
+ * points at class loading rather than at the game's own eager
+ * initialisation.
+ * </p>
+ * <p>
+ * With {@code -Xshare:auto} an archive that does not match the JVM or the
+ * class path is silently ignored, so a requested archive is not proof that it
+ * was used. Sharing stays active through the JDK's default archive even then;
+ * a requested archive that was ignored shows up as a class count and time to
+ * first frame no better than a run without it.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * java -Dminesweeper.startup.trace=true -jar Minesweeper.jar
+ *
+ * [startup] +    212 ms  main
+ * [startup]     38.4 ms  font RAINYHEARTS
+ * ...
+ * [startup] +    655 ms  first frame painted
+ * </pre>
+ * </p>
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+public final class StartupMetrics {
+
+    // ---------------------------- Constants ------------------------------- //
+    /**
+     * The system property that turns tracing on.
+     */
+    public static final String TRACE_PROPERTY = "minesweeper.startup.trace";
+
+    /**
+     * Whether tracing is on, read once when the class is loaded.
+     */
+    private static final boolean ENABLED = Boolean.getBoolean(TRACE_PROPERTY);
+
+    /**
+     * The sum of the durations recorded so far, in nanoseconds.
+     */
+    private static long recordedNanos;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private StartupMetrics() {
+    }
+
+    // ------------------------------ Getters ------------------------------- //
+    /**
+     * Checks whether startup tracing is on.
+     *
+     * @return {@code true} if entries are being reported
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // ---------------------------- API Methods ----------------------------- //
+    /**
+     * Reports that a stage of startup has been reached, with the time elapsed
+     * since the JVM started. Does nothing unless tracing is on.
+     *
+     * @param stage a short description of the stage
+     */
+    public static void mark(String stage) {
+        if (!ENABLED) {
+            return;
+        }
+
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.err.printf("[startup] + %6d ms  %s%n", uptime, stage);
+    }
+
+    /**
+     * Reports how long a single startup step took. Does nothing unless
+     * tracing is on.
+     *
+     * @param step a short description of the step
+     * @param nanos the duration of the step, in nanoseconds
+     */
+    public static synchronized void record(String step, long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+
+        recordedNanos += nanos;
+        System.err.printf("[startup]   %6.1f ms  %s%n", nanos / 1e6, step);
+    }
+
+    /**
+     * Reports that the first frame has been painted, followed by a summary of
+     * where the time to first frame went. Does nothing unless tracing is on.
+     */
+    public static synchronized void firstFrame() {
+        if (!ENABLED) {
+            return;
+        }
+
+        mark("first frame painted");
+
+        ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean requested = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        boolean sharing = System.getProperty("java.vm.info", "").contains("sharing");
+
+        System.err.printf("[startup] recorded initialisation %.1f ms%n", recordedNanos / 1e6);
+        System.err.printf("[startup] classes loaded %d, AppCDS archive %s, class sharing %s%n",
+                classes.getLoadedClassCount(), requested ? "requested" : "not requested",
+                sharing ? "on" : "off");
+        if (jit != null && jit.isCompilationTimeMonitoringSupported()) {
+            System.err.printf("[startup] JIT compilation %d ms%n", jit.getTotalCompilationTime());
+        }
+    }
+
+}
@@ -0,0 +1,3 @@
+@echo off
+rem Launches Minesweeper with the AppCDS archive recorded by "mvn -P appcds package".
+java -XX:SharedArchiveFile="%~dp0${appcds.archive.name}" -Xshare:auto -jar "%~dp0${project.build.finalName}.jar" %*
@@ -0,0 +1,7 @@
+#!/bin/sh
+# Launches Minesweeper with the AppCDS archive recorded by `mvn -P appcds package`.
+# The archive is ignored, rather than failing the launch, if it does not match
+# the JVM or the jar.
+DIR="$(cd "$(dirname "$0")" && pwd)"
+exec java -XX:SharedArchiveFile="$DIR/${appcds.archive.name}" -Xshare:auto \
+    -jar "$DIR/${project.build.finalName}.jar" "$@"
@@ -0,0 +1,229 @@
+package minesweeper.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the chunked storage of {@link EndlessBoard}: neighbour counts across
+ * chunk borders, and the state of chunks that are evicted and materialised
+ * again. Also checks the moves the endless view relies on: chords and the
+ * events reported to listeners.
+ *
+ * @see minesweeper.engine.EndlessBoard
+ * @see minesweeper.engine.Chunk
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+class EndlessBoardTest {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The mine density of the boards checked.
+     */
+    private static final double DENSITY = 0.2;
+
+    /**
+     * The distance, in cells, at which chunks are materialised to force the
+     * chunks near the origin out.
+     */
+    private static final int FAR = 100 * Chunk.SIZE;
+
+    // ------------------------------- Tests -------------------------------- //
+    @Test
+    void adjacentMinesMatchMinesAcrossChunkBorders() {
+        // Few hot chunks, so chunks are evicted and rebuilt during the scan
+        EndlessBoard board = new EndlessBoard(42L, DENSITY, EndlessBoard.MIN_HOT_CHUNKS);
+        int edge = Chunk.SIZE + 6; // spans the borders at -64, 0 and 64
+
+        for (int y = -edge; y <= edge; y++) {
+            for (int x = -edge; x <= edge; x++) {
+                int count = 0;
+                for (int ny = y - 1; ny <= y + 1; ny++) {
+                    for (int nx = x - 1; nx <= x + 1; nx++) {
+                        if ((nx != x || ny != y) && board.hasMine(nx, ny)) {
+                            count++;
+                        }
+                    }
+                }
+                assertEquals(count, board.getAdjacentMines(x, y), "cell " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void originIsSafe() {
+        EndlessBoard board = new EndlessBoard(7L, EndlessBoard.MAX_DENSITY, EndlessBoard.MIN_HOT_CHUNKS);
+        for (int y = -1; y <= 1; y++) {
+            for (int x = -1; x <= 1; x++) {
+                assertFalse(board.hasMine(x, y), "cell " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void evictedChunksKeepTheirStateWhenMaterialisedAgain() {
+        EndlessBoard board = new EndlessBoard(1234L, DENSITY, EndlessBoard.MIN_HOT_CHUNKS);
+        long[] revealed = board.reveal(0, 0);
+        assertTrue(revealed.length > 0);
+
+        int fx = -Chunk.SIZE - 3, fy = Chunk.SIZE + 5; // a different chunk
+        while (board.isRevealed(fx, fy)) {
+            fx--;
+        }
+        assertTrue(board.toggleFlag(fx, fy));
+        boolean mine = board.hasMine(fx, fy);
+        int adjacent = board.getAdjacentMines(fx, fy);
+
+        board.materialise(FAR, FAR, FAR + 3 * Chunk.SIZE, FAR + 3 * Chunk.SIZE);
+        assertEquals(EndlessBoard.MIN_HOT_CHUNKS, board.getHotChunkCount());
+        assertTrue(board.getColdChunkCount() > 0, "touched chunks should be kept compact");
+
+        // Read from the compact form, then from the rebuilt chunk
+        for (int pass = 0; pass < 2; pass++) {
+            for (long cell : revealed) {
+                int x = EndlessBoard.xOf(cell), y = EndlessBoard.yOf(cell);
+                assertTrue(board.isRevealed(x, y), "cell " + x + "," + y);
+            }
+            assertTrue(board.isFlagged(fx, fy));
+            assertEquals(mine, board.hasMine(fx, fy)); // materialises the chunk
+            assertEquals(adjacent, board.getAdjacentMines(fx, fy));
+        }
+
+        assertEquals(1, board.getFlagCount());
+        assertEquals(revealed.length, board.getRevealedCount());
+    }
+
+    @Test
+    void untouchedChunksAreDroppedOnEviction() {
+        EndlessBoard board = new EndlessBoard(99L, DENSITY, EndlessBoard.MIN_HOT_CHUNKS);
+        board.materialise(0, 0, 4 * Chunk.SIZE - 1, 4 * Chunk.SIZE - 1); // 16 chunks
+
+        assertEquals(EndlessBoard.MIN_HOT_CHUNKS, board.getHotChunkCount());
+        assertEquals(0, board.getColdChunkCount());
+    }
+
+    @Test
+    void sameSeedGivesSameBoard() {
+        EndlessBoard a = new EndlessBoard(5L, DENSITY, EndlessBoard.MIN_HOT_CHUNKS);
+        EndlessBoard b = new EndlessBoard(5L, DENSITY, 64);
+        b.materialise(FAR, FAR, FAR, FAR); // a different materialisation order
+
+        for (int y = -Chunk.SIZE; y < Chunk.SIZE; y += 7) {
+            for (int x = -Chunk.SIZE; x < Chunk.SIZE; x += 5) {
+                assertEquals(a.hasMine(x, y), b.hasMine(x, y), "cell " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void listenersReceiveEachMove() {
+        EndlessBoard board = new EndlessBoard(3L, DENSITY, EndlessBoard.MIN_HOT_CHUNKS);
+        List<long[]> moves = new ArrayList<>();
+        board.addBoardListener((changed, status) -> moves.add(changed));
+
+        long[] revealed = board.reveal(0, 0);
+        assertEquals(1, moves.size());
+        assertSame(revealed, moves.get(0));
+
+        int fx = 0;
+        while (board.isRevealed(fx, 0)) {
+            fx++;
+        }
+        assertTrue(board.toggleFlag(fx, 0));
+        assertEquals(2, moves.size());
+        assertEquals(EndlessBoard.pack(fx, 0), moves.get(1)[0]);
+
+        board.reveal(0, 0); // already revealed, nothing changes
+        assertEquals(2, moves.size());
+    }
+
+    @Test
+    void chordRevealsUnflaggedNeighbours() {
+        EndlessBoard board = new EndlessBoard(11L, DENSITY, EndlessBoard.MIN_HOT_CHUNKS);
+        board.reveal(0, 0);
+        int[] cell = numberWithHiddenNeighbours(board);
+        int x = cell[0], y = cell[1];
+
+        for (int ny = y - 1; ny <= y + 1; ny++) {
+            for (int nx = x - 1; nx <= x + 1; nx++) {
+                if (board.hasMine(nx, ny)) {
+                    board.toggleFlag(nx, ny);
+                }
+            }
+        }
+
+        assertTrue(board.chord(x, y).length > 0);
+        assertEquals(GameStatus.PLAYING, board.getStatus());
+        for (int ny = y - 1; ny <= y + 1; ny++) {
+            for (int nx = x - 1; nx <= x + 1; nx++) {
+                assertTrue(board.isRevealed(nx, ny) || board.isFlagged(nx, ny), "cell " + nx + "," + ny);
+            }
+        }
+    }
+
+    @Test
+    void chordOnAWrongFlagLoses() {
+        EndlessBoard board = new EndlessBoard(11L, DENSITY, EndlessBoard.MIN_HOT_CHUNKS);
+        board.reveal(0, 0);
+        int[] cell = numberWithHiddenNeighbours(board);
+        int x = cell[0], y = cell[1];
+
+        // Flag as many safe neighbours as there are mines, leaving the mines
+        int flags = board.getAdjacentMines(x, y);
+        for (int ny = y - 1; ny <= y + 1 && flags > 0; ny++) {
+            for (int nx = x - 1; nx <= x + 1 && flags > 0; nx++) {
+                if (!board.isRevealed(nx, ny) && !board.hasMine(nx, ny)) {
+                    board.toggleFlag(nx, ny);
+                    flags--;
+                }
+            }
+        }
+
+        long[] changed = board.chord(x, y);
+        assertEquals(GameStatus.LOST, board.getStatus());
+        long last = changed[changed.length - 1];
+        assertTrue(board.hasMine(EndlessBoard.xOf(last), EndlessBoard.yOf(last)), "the move should stop at the mine");
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Returns a revealed numbered cell near the origin with at least as many
+     * hidden safe neighbours as neighbouring mines, so that both a correct
+     * and a wrong set of flags can be placed around it.
+     *
+     * @param board the board to search, with the origin revealed
+     * @return the coordinates of the cell, as {@code {x, y}}
+     */
+    private static int[] numberWithHiddenNeighbours(EndlessBoard board) {
+        for (int y = -Chunk.SIZE; y < Chunk.SIZE; y++) {
+            for (int x = -Chunk.SIZE; x < Chunk.SIZE; x++) {
+                if (!board.isRevealed(x, y) || board.getAdjacentMines(x, y) == 0) {
+                    continue;
+                }
+
+                int hiddenSafe = 0;
+                for (int ny = y - 1; ny <= y + 1; ny++) {
+                    for (int nx = x - 1; nx <= x + 1; nx++) {
+                        if (!board.isRevealed(nx, ny) && !board.hasMine(nx, ny)) {
+                            hiddenSafe++;
+                        }
+                    }
+                }
+                if (hiddenSafe >= board.getAdjacentMines(x, y)) {
+                    return new int[] {x, y};
+                }
+            }
+        }
+        throw new AssertionError("no numbered cell with enough hidden safe neighbours");
+    }
+
+}
@@ -0,0 +1,94 @@
+package minesweeper.engine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Checks that {@link ParallelReveal} opens exactly the cells the sequential
+ * flood fill of {@link Board} opens. The parallel fill is forced on, so the
+ * check runs on single-processor machines too.
+ *
+ * @see minesweeper.engine.ParallelReveal
+ * @see minesweeper.engine.Board
+ *
+ * @since 2.0
+ * @version 1.0
+ *
+ * @author Kheagen Haskins
+ */
+class ParallelRevealTest {
+
+    // ------------------------------ Fields -------------------------------- //
+    /**
+     * The side of the square boards checked, giving
+     * {@link Board#PARALLEL_THRESHOLD} cells.
+     */
+    private static final int SIZE = 1024;
+
+    // ------------------------------- Tests -------------------------------- //
+    @ParameterizedTest
+    @CsvSource({
+        "1000,   1, 0",
+        "1000,   2, 512",
+        "60000,  3, 300",
+        "150000, 4, 0",
+        "150000, 5, 300"
+    })
+    void parallelRevealMatchesSequential(int mines, long seed, int flags) {
+        Board sequential = new Board(SIZE, SIZE, mines, seed, false);
+        Board parallel = new Board(SIZE, SIZE, mines, seed, true);
+
+        // Flags stop both fills. The first toggle places the mines, so with no
+        // flags wanted the first cell is flagged and unflagged again
+        for (int i = 0; i < Math.max(flags, 1); i++) {
+            int index = (int) ((i * 2654435761L) % (SIZE * SIZE));
+            sequential.toggleFlag(index);
+            parallel.toggleFlag(index);
+        }
+        if (flags == 0) {
+            sequential.toggleFlag(0);
+            parallel.toggleFlag(0);
+        }
+
+        int start = emptyCellFrom(sequential, sequential.indexOf(SIZE / 2, SIZE / 2));
+        int[] expected = sequential.reveal(start);
+        int[] actual = parallel.reveal(start);
+
+        assertTrue(expected.length > 1, "the reveal should open a region");
+        assertEquals(sequential.getStatus(), parallel.getStatus());
+        assertEquals(sequential.getRevealedCount(), parallel.getRevealedCount());
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            assertEquals(sequential.isRevealed(i), parallel.isRevealed(i), "cell " + i);
+        }
+
+        Arrays.sort(expected);
+        Arrays.sort(actual);
+        assertArrayEquals(expected, actual);
+        for (int i = 1; i < actual.length; i++) {
+            assertTrue(actual[i - 1] < actual[i], "duplicate change " + actual[i]);
+        }
+    }
+
+    // -------------------------- Helper Methods ---------------------------- //
+    /**
+     * Returns the first hidden, unflagged cell without neighbouring mines at
+     * or after the given index, so that the reveal opens a region.
+     *
+     * @param board the board to search
+     * @param from the linear index to search from
+     * @return the linear index of the cell
+     */
+    private static int emptyCellFrom(Board board, int from) {
+        for (int i = from; ; i = (i + 1) % (SIZE * SIZE)) {
+            if (!board.hasMine(i) && !board.isFlagged(i) && board.getAdjacentMines(i) == 0) {
+                return i;
+            }
+        }
+    }
+
+}